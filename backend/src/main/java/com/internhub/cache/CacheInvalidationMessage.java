@@ -0,0 +1,35 @@
+package com.internhub.cache;
+
+import java.io.Serializable;
+
+/**
+ * Message broadcast on the invalidation channel when a node evicts or clears
+ * an entry, so the other nodes drop the same entry from their local tier. A
+ * null key means "clear the whole cache".
+ */
+public class CacheInvalidationMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String originNodeId;
+    private final String cacheName;
+    private final Object key;
+
+    public CacheInvalidationMessage(String originNodeId, String cacheName, Object key) {
+        this.originNodeId = originNodeId;
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+
+    public String getOriginNodeId() {
+        return originNodeId;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public Object getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,42 @@
+package com.internhub.cache;
+
+/**
+ * Names of the reference data caches managed by {@link TieredCacheManager}.
+ */
+public final class CacheNames {
+
+    /**
+     * All sectors, stored under a single key.
+     */
+    public static final String SECTORS = "sectors";
+
+    /**
+     * Sector by lower-cased name.
+     */
+    public static final String SECTOR_BY_NAME = "sectorByName";
+
+    /**
+     * User id by email address.
+     */
+    public static final String USER_ID_BY_EMAIL = "userIdByEmail";
+
+    /**
+     * Instructor contact details by user id.
+     */
+    public static final String INSTRUCTOR_CONTACT = "instructorContact";
+
+    /**
+     * Admin dashboard statistics, stored under a single key and recomputed
+     * by the statistics job.
+     */
+    public static final String ENHANCED_STATISTICS = "enhancedStatistics";
+
+    /**
+     * Users whose write committed within the read-your-writes window, by
+     * user name; their reads skip the replica.
+     */
+    public static final String STICKY_PRIMARY = "stickyPrimary";
+
+    private CacheNames() {
+    }
+}
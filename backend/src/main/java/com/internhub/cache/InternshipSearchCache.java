@@ -0,0 +1,244 @@
+package com.internhub.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.internhub.dto.InternshipSearchRequest;
+import com.internhub.event.InternshipChangedEvent;
+import com.internhub.model.InternshipStatus;
+import com.internhub.specification.InternshipSortRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Result cache for the paginated internship search. Entries are keyed by the
+ * normalized search request and only hold the ordered ids of a page plus the
+ * total count, so cached pages are re-hydrated from the persistence context
+ * instead of sharing entity instances across transactions.
+ *
+ * Entries are invalidated selectively when an {@link InternshipChangedEvent}
+ * touches a sector or status the cached search filtered on (or did not filter
+ * on at all). With the Redis tier enabled the event is also broadcast on the
+ * cache invalidation channel so every node drops the same entries; without it
+ * the other nodes of a multi-node deployment only catch up when their entries
+ * expire, so keep app.search.cache.ttl short there.
+ *
+ * A page that was still loading when an invalidation ran may hold pre-commit
+ * data. Every invalidation therefore gets a generation number, each entry is
+ * stamped with the generation its load started at, and a freshly loaded entry
+ * is dropped again if a matching invalidation ran since. Eviction is Caffeine's
+ * size-based W-TinyLFU policy, and hit/miss statistics are exported to
+ * Micrometer under cache="internshipSearch".
+ */
+@Component
+@Slf4j
+public class InternshipSearchCache {
+
+    public static final String CACHE_NAME = "internshipSearch";
+
+    /**
+     * Invalidations kept to check loads against. A load that started before
+     * the oldest one kept is treated as invalidated.
+     */
+    private static final int MAX_RECENT_INVALIDATIONS = 1024;
+
+    private final Cache<SearchKey, StampedPage> cache;
+    private final TieredCacheManager cacheManager;
+    private final AtomicLong generation = new AtomicLong();
+    private final Deque<Invalidation> recentInvalidations = new ArrayDeque<>();
+    private long droppedThrough;
+
+    public InternshipSearchCache(MeterRegistry meterRegistry,
+            TieredCacheManager cacheManager,
+            @Value("${app.search.cache.max-size:10000}") long maxSize,
+            @Value("${app.search.cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.cacheManager = cacheManager;
+        cacheManager.registerLocalInvalidation(CACHE_NAME, key -> {
+            if (key instanceof InternshipChangedEvent event) {
+                invalidateLocal(event);
+            } else {
+                invalidateAllLocal();
+            }
+        });
+    }
+
+    /**
+     * Return the cached id page for a search, computing it with the loader on
+     * a miss.
+     */
+    public IdPage get(InternshipSearchRequest request, Function<SearchKey, IdPage> loader) {
+        SearchKey key = SearchKey.of(request);
+        boolean[] loaded = new boolean[1];
+        StampedPage entry = cache.get(key, k -> {
+            long startedAt = generation.get();
+            loaded[0] = true;
+            return new StampedPage(loader.apply(k), startedAt);
+        });
+        // Stored first, checked second: an invalidation recorded after this
+        // check removes the entry itself
+        if (loaded[0] && invalidatedSince(key, entry.generation())) {
+            cache.asMap().remove(key, entry);
+        }
+        return entry.page();
+    }
+
+    /**
+     * Drop every cached page that could contain (or now should contain) the
+     * changed internship. Runs after the writing transaction commits so a
+     * concurrent search cannot re-populate the entry with pre-commit data.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInternshipChanged(InternshipChangedEvent event) {
+        invalidateLocal(event);
+        broadcast(event);
+    }
+
+    /**
+     * Drop all cached pages, on every node.
+     */
+    public void invalidateAll() {
+        invalidateAllLocal();
+        broadcast(null);
+    }
+
+    private void invalidateAllLocal() {
+        record(null);
+        cache.invalidateAll();
+    }
+
+    private void invalidateLocal(InternshipChangedEvent event) {
+        record(event);
+        cache.asMap().keySet().removeIf(key -> key.isAffectedBy(event));
+        log.debug("Invalidated internship search cache for internship {} (sectors {}, statuses {})",
+                event.getInternshipId(), event.getSectorIds(), event.getStatuses());
+    }
+
+    /**
+     * Record an invalidation (null: all entries) before removing the entries
+     * it affects, so loads still running can see it.
+     */
+    private void record(InternshipChangedEvent event) {
+        synchronized (recentInvalidations) {
+            recentInvalidations.addLast(new Invalidation(generation.incrementAndGet(), event));
+            if (recentInvalidations.size() > MAX_RECENT_INVALIDATIONS) {
+                droppedThrough = recentInvalidations.removeFirst().generation();
+            }
+        }
+    }
+
+    /**
+     * Whether an invalidation affecting the key was recorded after the given
+     * generation.
+     */
+    private boolean invalidatedSince(SearchKey key, long since) {
+        synchronized (recentInvalidations) {
+            if (since < droppedThrough) {
+                return true;
+            }
+            Iterator<Invalidation> newestFirst = recentInvalidations.descendingIterator();
+            while (newestFirst.hasNext()) {
+                Invalidation invalidation = newestFirst.next();
+                if (invalidation.generation() <= since) {
+                    return false;
+                }
+                if (invalidation.event() == null || key.isAffectedBy(invalidation.event())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private void broadcast(InternshipChangedEvent event) {
+        try {
+            cacheManager.broadcast(CACHE_NAME, event);
+        } catch (RuntimeException e) {
+            log.warn("Internship search cache invalidation broadcast failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * One cached result page: ordered internship ids and the total match count.
+     */
+    public record IdPage(List<Long> ids, long totalElements) {
+
+    }
+
+    /**
+     * A cached page and the invalidation generation its load started at.
+     */
+    private record StampedPage(IdPage page, long generation) {
+
+    }
+
+    private record Invalidation(long generation, InternshipChangedEvent event) {
+
+    }
+
+    /**
+     * Normalized search request. Text filters are lower-cased (the
+     * specification matches case-insensitively) and blank ones dropped, and the
+     * sort is resolved through {@link InternshipSortRegistry}, so requests that
+     * produce the same SQL share an entry.
+     */
+    public record SearchKey(Long sectorId, InternshipStatus status, String companyName, String title,
+            Long studentId, Long instructorId, String studentName, String instructorName,
+            LocalDate startDateFrom, LocalDate startDateTo, LocalDate endDateFrom, LocalDate endDateTo,
+            int page, int size, String sortProperty, String sortDirection) {
+
+        static SearchKey of(InternshipSearchRequest request) {
+            return new SearchKey(
+                    request.getSectorId(),
+                    request.getStatus(),
+                    normalize(request.getCompanyName()),
+                    normalize(request.getTitle()),
+                    request.getStudentId(),
+                    request.getInstructorId(),
+                    normalize(request.getStudentName()),
+                    normalize(request.getInstructorName()),
+                    request.getStartDateFrom(),
+                    request.getStartDateTo(),
+                    request.getEndDateFrom(),
+                    request.getEndDateTo(),
+                    request.getPage(),
+                    request.getSize(),
+                    InternshipSortRegistry.resolveProperty(request.getSortBy()),
+                    InternshipSortRegistry.resolveDirection(request.getSortDirection()).name()
+            );
+        }
+
+        boolean isAffectedBy(InternshipChangedEvent event) {
+            boolean sectorMatches = sectorId == null || event.getSectorIds().contains(sectorId);
+            boolean statusMatches = status == null || event.getStatuses().contains(status);
+            return sectorMatches && statusMatches;
+        }
+
+        private static String normalize(String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return null;
+            }
+            return value.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.internhub.cache;
+
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies invalidations broadcast by other nodes to the local tier of the
+ * matching {@link TieredCache}, or to the handler a node-local cache
+ * registered for that name. Messages sent by this node are ignored.
+ */
+@Slf4j
+public class RedisCacheInvalidationListener implements MessageListener {
+
+    private final TieredCacheManager cacheManager;
+    private final RedisSerializer<Object> serializer;
+
+    public RedisCacheInvalidationListener(TieredCacheManager cacheManager, RedisSerializer<Object> serializer) {
+        this.cacheManager = cacheManager;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object payload;
+        try {
+            payload = serializer.deserialize(message.getBody());
+        } catch (RuntimeException e) {
+            log.warn("Ignoring unreadable cache invalidation message: {}", e.getMessage());
+            return;
+        }
+        if (!(payload instanceof CacheInvalidationMessage invalidation)
+                || cacheManager.getNodeId().equals(invalidation.getOriginNodeId())) {
+            return;
+        }
+
+        Consumer<Object> handler = cacheManager.getLocalInvalidationHandler(invalidation.getCacheName());
+        if (handler != null) {
+            handler.accept(invalidation.getKey());
+            log.debug("Applied remote invalidation {}::{}", invalidation.getCacheName(), invalidation.getKey());
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(invalidation.getCacheName());
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        if (cache instanceof TieredCache tieredCache) {
+            tieredCache.invalidateLocal(invalidation.getKey());
+            log.debug("Applied remote invalidation {}::{}", invalidation.getCacheName(), invalidation.getKey());
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.internhub.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.internhub.model.Role;
+import com.internhub.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process index of which instructors cover which sector, used for the
+ * submission fan-out, automatic assignment and the list of claimable
+ * internships instead of loading User.sectors. Authorization (claim, validate,
+ * refuse) checks instructor_sectors itself, so a revoked sector is never
+ * honoured from a stale table.
+ *
+ * Each snapshot holds, per sector, the sorted ids of its instructors and, per
+ * instructor, a bitset of their sectors (bits are dense per-snapshot sector
+ * indexes). Both lookups are hash probes. Snapshots are immutable: readers
+ * never lock, and every change builds a new snapshot and swaps it in
+ * (copy-on-write; changes are rare admin operations).
+ *
+ * The table is built from instructor_sectors when the application is ready
+ * and again every app.routing.refresh-interval. Changes made on this node are
+ * applied after commit and announced on the cache invalidation channel under
+ * {@value #INVALIDATION_NAME}; the other nodes reload on the announcement, so
+ * the periodic reload only covers lost messages.
+ */
+@Component
+@Slf4j
+public class SectorRoutingTable {
+
+    static final String INVALIDATION_NAME = "sectorRouting";
+
+    private static final long[] NO_INSTRUCTORS = new long[0];
+
+    private final UserRepository userRepository;
+    private final TieredCacheManager cacheManager;
+    private volatile Snapshot snapshot;
+
+    public SectorRoutingTable(UserRepository userRepository, TieredCacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+        cacheManager.registerLocalInvalidation(INVALIDATION_NAME, key -> reload());
+    }
+
+    /**
+     * Ids of the instructors covering a sector, ascending.
+     */
+    public long[] instructorsOf(Long sectorId) {
+        long[] instructors = current().instructorsBySector.get(sectorId);
+        return instructors != null ? instructors.clone() : NO_INSTRUCTORS;
+    }
+
+    /**
+     * Whether an instructor is assigned to a sector.
+     */
+    public boolean covers(Long instructorId, Long sectorId) {
+        Snapshot current = current();
+        Integer bit = current.sectorBits.get(sectorId);
+        BitSet sectors = current.sectorsByInstructor.get(instructorId);
+        return bit != null && sectors != null && sectors.get(bit);
+    }
+
+    /**
+     * Sectors an instructor is assigned to.
+     */
+    public Set<Long> sectorsOf(Long instructorId) {
+        return current().assignments.getOrDefault(instructorId, Set.of());
+    }
+
+    /**
+     * Replace the sectors of an instructor (created or re-assigned).
+     */
+    public void assign(Long instructorId, Collection<Long> sectorIds) {
+        Set<Long> sectors = Set.copyOf(sectorIds);
+        afterCommit(() -> update(assignments -> {
+            if (sectors.isEmpty()) {
+                assignments.remove(instructorId);
+            } else {
+                assignments.put(instructorId, sectors);
+            }
+        }));
+    }
+
+    public void removeInstructor(Long instructorId) {
+        afterCommit(() -> update(assignments -> assignments.remove(instructorId)));
+    }
+
+    public void removeSector(Long sectorId) {
+        afterCommit(() -> update(assignments -> assignments.replaceAll((instructorId, sectors) -> {
+            Set<Long> remaining = new HashSet<>(sectors);
+            remaining.remove(sectorId);
+            return Set.copyOf(remaining);
+        })));
+    }
+
+    /**
+     * Rebuild the table from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.routing.refresh-interval:5m}",
+            initialDelayString = "${app.routing.refresh-interval:5m}")
+    public synchronized void reload() {
+        Map<Long, Set<Long>> assignments = new HashMap<>();
+        for (Object[] row : userRepository.findSectorAssignmentsByRole(Role.INSTRUCTOR)) {
+            assignments.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+        }
+        snapshot = Snapshot.of(assignments);
+        log.debug("Sector routing table loaded: {} instructors, {} sectors",
+                assignments.size(), snapshot.sectorBits.size());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private void update(Consumer<Map<Long, Set<Long>>> change) {
+        synchronized (this) {
+            Map<Long, Set<Long>> assignments = new HashMap<>(current().assignments);
+            change.accept(assignments);
+            snapshot = Snapshot.of(assignments);
+        }
+        try {
+            cacheManager.broadcast(INVALIDATION_NAME, null);
+        } catch (RuntimeException e) {
+            log.warn("Sector routing change broadcast failed: {}", e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * Immutable routing state derived from the instructor to sectors map.
+     */
+    private static final class Snapshot {
+
+        private final Map<Long, Set<Long>> assignments;
+        private final Map<Long, Integer> sectorBits;
+        private final Map<Long, long[]> instructorsBySector;
+        private final Map<Long, BitSet> sectorsByInstructor;
+
+        private Snapshot(Map<Long, Set<Long>> assignments, Map<Long, Integer> sectorBits,
+                Map<Long, long[]> instructorsBySector, Map<Long, BitSet> sectorsByInstructor) {
+            this.assignments = assignments;
+            this.sectorBits = sectorBits;
+            this.instructorsBySector = instructorsBySector;
+            this.sectorsByInstructor = sectorsByInstructor;
+        }
+
+        static Snapshot of(Map<Long, Set<Long>> assignments) {
+            Map<Long, Integer> sectorBits = new HashMap<>();
+            Map<Long, List<Long>> instructors = new HashMap<>();
+            Map<Long, BitSet> sectorsByInstructor = new HashMap<>();
+
+            for (Map.Entry<Long, Set<Long>> entry : assignments.entrySet()) {
+                BitSet bits = new BitSet();
+                for (Long sectorId : new TreeSet<>(entry.getValue())) {
+                    bits.set(sectorBits.computeIfAbsent(sectorId, id -> sectorBits.size()));
+                    instructors.computeIfAbsent(sectorId, id -> new ArrayList<>()).add(entry.getKey());
+                }
+                sectorsByInstructor.put(entry.getKey(), bits);
+            }
+
+            Map<Long, long[]> instructorsBySector = new HashMap<>();
+            instructors.forEach((sectorId, ids) -> {
+                long[] sorted = ids.stream().mapToLong(Long::longValue).toArray();
+                Arrays.sort(sorted);
+                instructorsBySector.put(sectorId, sorted);
+            });
+
+            return new Snapshot(Map.copyOf(assignments), Map.copyOf(sectorBits),
+                    Map.copyOf(instructorsBySector), Map.copyOf(sectorsByInstructor));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.internhub.cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Two-tier Spring {@link Cache}: an in-process Caffeine cache (L1) in front of
+ * an optional shared cache (L2, Redis in practice). Reads go L1 -> L2 -> loader
+ * and promote L2 hits into L1. Writes and evictions go to both tiers and are
+ * broadcast through the invalidation publisher so other nodes drop their now
+ * stale L1 copy. Null values are not cached. Failures of the shared tier are
+ * logged and treated as misses so an unavailable Redis degrades to L1 only.
+ */
+@Slf4j
+public class TieredCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remote;
+    private final Consumer<CacheInvalidationMessage> invalidationPublisher;
+    private final String nodeId;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public TieredCache(String name,
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+            Cache remote,
+            Consumer<CacheInvalidationMessage> invalidationPublisher,
+            String nodeId,
+            MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.nodeId = nodeId;
+        this.remoteHits = Counter.builder("cache.remote.gets")
+                .tag("cache", name).tag("result", "hit")
+                .description("Shared tier lookups after a local miss")
+                .register(meterRegistry);
+        this.remoteMisses = Counter.builder("cache.remote.gets")
+                .tag("cache", name).tag("result", "miss")
+                .description("Shared tier lookups after a local miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = lookupRemote(key);
+        if (value != null) {
+            local.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) fromStoreValue(local.get(key, k -> {
+            Object value = lookupRemote(k);
+            if (value == null) {
+                value = toStoreValue(load(k, valueLoader));
+                putRemote(k, value);
+            }
+            return value;
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        local.put(key, storeValue);
+        putRemote(key, storeValue);
+        publish(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key);
+        if (remote != null) {
+            try {
+                remote.evict(key);
+            } catch (RuntimeException e) {
+                log.warn("Shared cache evict failed for {}::{}: {}", name, key, e.getMessage());
+            }
+        }
+        publish(key);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (remote != null) {
+            try {
+                remote.clear();
+            } catch (RuntimeException e) {
+                log.warn("Shared cache clear failed for {}: {}", name, e.getMessage());
+            }
+        }
+        publish(null);
+    }
+
+    /**
+     * Apply an invalidation received from another node to the local tier only.
+     */
+    public void invalidateLocal(Object key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private Object lookupRemote(Object key) {
+        if (remote == null) {
+            return null;
+        }
+        ValueWrapper wrapper;
+        try {
+            wrapper = remote.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Shared cache lookup failed for {}::{}: {}", name, key, e.getMessage());
+            return null;
+        }
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        return wrapper.get();
+    }
+
+    private void putRemote(Object key, Object storeValue) {
+        if (remote == null) {
+            return;
+        }
+        try {
+            remote.put(key, storeValue);
+        } catch (RuntimeException e) {
+            log.warn("Shared cache put failed for {}::{}: {}", name, key, e.getMessage());
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private void publish(Object key) {
+        if (invalidationPublisher == null) {
+            return;
+        }
+        try {
+            invalidationPublisher.accept(new CacheInvalidationMessage(nodeId, name, key));
+        } catch (RuntimeException e) {
+            log.warn("Cache invalidation broadcast failed for {}::{}: {}", name, key, e.getMessage());
+        }
+    }
+}
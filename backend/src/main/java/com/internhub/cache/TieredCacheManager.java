@@ -0,0 +1,107 @@
+package com.internhub.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.internhub.config.TieredCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * CacheManager building a {@link TieredCache} per configured cache name. The
+ * shared tier and the invalidation publisher are optional; without them every
+ * cache is a plain size/TTL-bounded Caffeine cache. Caches requested by name
+ * but not configured are created on the fly with the default settings. With
+ * transactionAware set, puts and evictions made inside a transaction are
+ * applied after it commits, so a concurrent reader cannot re-populate an
+ * evicted entry with the row as it was before the commit.
+ *
+ * Node-local caches that are not Spring caches (the internship search cache)
+ * can share the invalidation channel: they register a handler for their name
+ * and broadcast through {@link #broadcast}.
+ */
+public class TieredCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final TieredCacheProperties properties;
+    private final Function<String, Cache> remoteCacheFactory;
+    private final Consumer<CacheInvalidationMessage> invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<Object>> localInvalidationHandlers = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(TieredCacheProperties properties,
+            Function<String, Cache> remoteCacheFactory,
+            Consumer<CacheInvalidationMessage> invalidationPublisher,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.remoteCacheFactory = remoteCacheFactory;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Identifier of this JVM on the invalidation channel.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Register how invalidations received for a cache that is not managed here
+     * are applied on this node. A null key means "clear the whole cache".
+     */
+    public void registerLocalInvalidation(String cacheName, Consumer<Object> handler) {
+        localInvalidationHandlers.put(cacheName, handler);
+    }
+
+    public Consumer<Object> getLocalInvalidationHandler(String cacheName) {
+        return localInvalidationHandlers.get(cacheName);
+    }
+
+    /**
+     * Send an invalidation to the other nodes. Does nothing when the shared
+     * tier is disabled.
+     */
+    public void broadcast(String cacheName, Object key) {
+        if (invalidationPublisher != null) {
+            invalidationPublisher.accept(new CacheInvalidationMessage(nodeId, cacheName, key));
+        }
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        properties.getSpecs().keySet().forEach(name -> caches.add(createCache(name)));
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private TieredCache createCache(String name) {
+        TieredCacheProperties.Spec spec = properties.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getLocalTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "local"));
+
+        Cache remote = remoteCacheFactory != null ? remoteCacheFactory.apply(name) : null;
+        return new TieredCache(name, local, remote, invalidationPublisher, nodeId, meterRegistry);
+    }
+}
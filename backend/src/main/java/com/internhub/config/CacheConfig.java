@@ -0,0 +1,110 @@
+package com.internhub.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.internhub.cache.CacheInvalidationMessage;
+import com.internhub.cache.RedisCacheInvalidationListener;
+import com.internhub.cache.TieredCacheManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration for the reference data cache. Always provides the local
+ * Caffeine tier; when app.cache.redis.enabled=true it adds Redis as a shared
+ * second tier and subscribes to the invalidation channel so local copies are
+ * dropped on every node when an entry changes.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(TieredCacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public TieredCacheManager cacheManager(TieredCacheProperties properties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        TieredCacheManager cacheManager = createCacheManager(properties, meterRegistry, redisConnectionFactory);
+        // Evict after commit: before it, readers would re-cache the old row
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    private TieredCacheManager createCacheManager(TieredCacheProperties properties,
+            MeterRegistry meterRegistry,
+            ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        if (!properties.getRedis().isEnabled()) {
+            return new TieredCacheManager(properties, null, null, meterRegistry);
+        }
+
+        RedisConnectionFactory connectionFactory = redisConnectionFactory.getObject();
+        RedisSerializer<Object> serializer = RedisSerializer.java();
+
+        Function<String, Cache> remoteCacheFactory = remoteCacheFactory(properties, connectionFactory, serializer);
+
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(serializer);
+        template.afterPropertiesSet();
+        String channel = properties.getRedis().getInvalidationChannel();
+        Consumer<CacheInvalidationMessage> publisher = message -> template.convertAndSend(channel, message);
+
+        return new TieredCacheManager(properties, remoteCacheFactory, publisher, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.redis", name = "enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TieredCacheManager cacheManager,
+            TieredCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new RedisCacheInvalidationListener(cacheManager, RedisSerializer.java()),
+                new ChannelTopic(properties.getRedis().getInvalidationChannel()));
+        return container;
+    }
+
+    private Function<String, Cache> remoteCacheFactory(TieredCacheProperties properties,
+            RedisConnectionFactory connectionFactory,
+            RedisSerializer<Object> serializer) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .prefixCacheNameWith(properties.getRedis().getKeyPrefix())
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
+                .disableCachingNullValues()
+                .entryTtl(properties.getDefaults().getRemoteTtl());
+
+        Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+        properties.getSpecs().forEach((name, spec) -> perCache.put(name, defaults.entryTtl(spec.getRemoteTtl())));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager
+                .builder(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory))
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(perCache)
+                .build();
+        redisCacheManager.initializeCaches();
+        return redisCacheManager::getCache;
+    }
+}
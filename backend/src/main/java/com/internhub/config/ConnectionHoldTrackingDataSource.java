@@ -0,0 +1,143 @@
+package com.internhub.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DataSource wrapper timing how long each connection is held, from borrow to
+ * close, per owner.
+ *
+ * The owner is the first application frame on the stack when the connection
+ * is borrowed, skipping the application's own DataSource wrappers (the
+ * replica routing DataSource sits above each tracked pool): usually the transactional proxy of a service method
+ * ("InternshipServiceImpl.submitInternship"), otherwise the code calling a
+ * repository outside a transaction. Holds are recorded in the
+ * db.connection.hold timer tagged by owner, and holds longer than the
+ * threshold are logged with their owner.
+ *
+ * The meter registry is only looked up on the first close, as it may itself
+ * depend on the DataSource.
+ */
+@Slf4j
+public class ConnectionHoldTrackingDataSource extends DelegatingDataSource {
+
+    static final String HOLD_METER = "db.connection.hold";
+
+    private static final String APPLICATION_PACKAGE = "com.internhub.";
+    private static final String UNKNOWN_OWNER = "unknown";
+
+    private final StackWalker stackWalker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Duration longHoldThreshold;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public ConnectionHoldTrackingDataSource(DataSource targetDataSource, ObjectProvider<MeterRegistry> meterRegistry,
+            Duration longHoldThreshold) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+        this.longHoldThreshold = longHoldThreshold;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new HoldTracker(connection, findOwner(), System.nanoTime()));
+    }
+
+    /**
+     * "SimpleClassName.method" of the first application frame, with the
+     * CGLIB proxy suffix removed.
+     */
+    private String findOwner() {
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !DataSource.class.isAssignableFrom(frame.getDeclaringClass())
+                        && !frame.getClassName().startsWith(ConnectionHoldTrackingDataSource.class.getName()))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    int proxySuffix = className.indexOf("$$");
+                    if (proxySuffix > 0) {
+                        className = className.substring(0, proxySuffix);
+                    }
+                    return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                })
+                .orElse(UNKNOWN_OWNER));
+    }
+
+    private void recordHold(String owner, long nanos) {
+        timers.computeIfAbsent(owner, o -> Timer.builder(HOLD_METER)
+                .description("Time a pooled connection is held, from borrow to close")
+                .tag("owner", o)
+                .register(meterRegistry.getObject()))
+                .record(Duration.ofNanos(nanos));
+        if (nanos > longHoldThreshold.toNanos()) {
+            log.warn("Connection held for {} ms by {}", nanos / 1_000_000, owner);
+        }
+    }
+
+    private class HoldTracker implements InvocationHandler {
+
+        private final Connection target;
+        private final String owner;
+        private final long borrowedAt;
+        private boolean closed;
+
+        HoldTracker(Connection target, String owner, long borrowedAt) {
+            this.target = target;
+            this.owner = owner;
+            this.borrowedAt = borrowedAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        recordHold(owner, System.nanoTime() - borrowedAt);
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Tracked[" + owner + "] " + target;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.internhub.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connection pool setup on top of the spring.datasource.hikari.* settings.
+ *
+ * Each pool is warmed up once the application is ready: minimum-idle
+ * connections are borrowed at the same time and validated, so the first
+ * requests do not pay for connection setup (with lazy initialization nothing
+ * else forces it). Unless app.datasource.hold-tracking.enabled=false, the
+ * DataSource is wrapped in a {@link ConnectionHoldTrackingDataSource} that
+ * attributes connection holds to the service method that borrowed them.
+ */
+@Configuration
+@Slf4j
+public class ConnectionPoolConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.hold-tracking.enabled", havingValue = "true", matchIfMissing = true)
+    static BeanPostProcessor connectionHoldTracking(ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment) {
+        Duration threshold = environment.getProperty("app.datasource.long-hold-threshold", Duration.class,
+                Duration.ofSeconds(2));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    return new ConnectionHoldTrackingDataSource(dataSource, meterRegistry, threshold);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpPools(ApplicationReadyEvent event) {
+        // One pool normally, primary and replica with app.datasource.replica.enabled
+        Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DataSource dataSource : event.getApplicationContext().getBeansOfType(DataSource.class).values()) {
+            HikariDataSource pool = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+            if (pool != null) {
+                pools.add(pool);
+            }
+        }
+        pools.forEach(this::warmUpPool);
+    }
+
+    private void warmUpPool(HikariDataSource pool) {
+        long start = System.currentTimeMillis();
+        List<Connection> connections = new ArrayList<>();
+        try {
+            // Hold them all so the pool has to open minimum-idle connections
+            for (int i = 0; i < pool.getMinimumIdle(); i++) {
+                Connection connection = pool.getConnection();
+                connections.add(connection);
+                if (!connection.isValid(2)) {
+                    log.warn("Connection pool '{}' warm-up got an invalid connection", pool.getPoolName());
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Connection pool '{}' warm-up stopped after {} connections: {}", pool.getPoolName(),
+                    connections.size(), e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Failed to return warm-up connection: {}", e.getMessage());
+                }
+            }
+        }
+        log.info("Connection pool '{}' warmed up with {} connections in {} ms",
+                pool.getPoolName(), connections.size(), System.currentTimeMillis() - start);
+    }
+}
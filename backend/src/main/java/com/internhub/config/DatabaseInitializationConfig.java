@@ -0,0 +1,20 @@
+package com.internhub.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Keeps schema migration eager despite spring.main.lazy-initialization: a lazy
+ * Flyway initializer would only run when the first request touches JPA, so a
+ * failed migration would surface as a request error instead of a failed start.
+ */
+@Configuration
+public class DatabaseInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerFlywayMigration() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class);
+    }
+}
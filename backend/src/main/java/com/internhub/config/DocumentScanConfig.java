@@ -0,0 +1,23 @@
+package com.internhub.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.internhub.scan.DocumentScanner;
+import com.internhub.scan.SignatureDocumentScanner;
+
+/**
+ * Document scanner used by the post-upload scan stage. Defining another
+ * {@link DocumentScanner} bean (e.g. a ClamAV client) replaces the local
+ * signature stub.
+ */
+@Configuration
+public class DocumentScanConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(DocumentScanner.class)
+    public DocumentScanner documentScanner() {
+        return new SignatureDocumentScanner();
+    }
+}
@@ -0,0 +1,60 @@
+package com.internhub.config;
+
+import java.net.URI;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import com.internhub.storage.DocumentStorage;
+import com.internhub.storage.LocalDocumentStorage;
+import com.internhub.storage.S3DocumentStorage;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+/**
+ * Selects the document blob storage backend from app.storage.type ("local",
+ * the default, or "s3").
+ */
+@Configuration
+@EnableConfigurationProperties(DocumentStorageProperties.class)
+public class DocumentStorageConfig {
+
+    @Bean
+    public DocumentStorage documentStorage(DocumentStorageProperties properties,
+            ObjectProvider<S3Client> s3Client) {
+        if ("s3".equalsIgnoreCase(properties.getType())) {
+            DocumentStorageProperties.S3 s3 = properties.getS3();
+            return new S3DocumentStorage(s3Client.getObject(), s3.getBucket(), s3.getKeyPrefix(),
+                    s3.getMultipartThreshold().toBytes(), Math.toIntExact(s3.getPartSize().toBytes()));
+        }
+        return new LocalDocumentStorage(properties.getLocal().getRoot());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.storage", name = "type", havingValue = "s3")
+    public S3Client documentStorageS3Client(DocumentStorageProperties properties) {
+        DocumentStorageProperties.S3 s3 = properties.getS3();
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(s3.getRegion()))
+                .forcePathStyle(s3.isPathStyleAccess());
+        if (StringUtils.hasText(s3.getEndpoint())) {
+            builder.endpointOverride(URI.create(s3.getEndpoint()));
+        }
+        if (StringUtils.hasText(s3.getAccessKey())) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(s3.getAccessKey(), s3.getSecretKey())));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,139 @@
+package com.internhub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the document blob storage backend (prefix "app.storage").
+ * "local" stores blobs in a hash-sharded directory tree, "s3" in a bucket of
+ * any S3-compatible service (AWS, MinIO, ...).
+ */
+@ConfigurationProperties(prefix = "app.storage")
+public class DocumentStorageProperties {
+
+    private String type = "local";
+    private final Local local = new Local();
+    private final S3 s3 = new S3();
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Local getLocal() {
+        return local;
+    }
+
+    public S3 getS3() {
+        return s3;
+    }
+
+    /**
+     * Local filesystem backend.
+     */
+    public static class Local {
+
+        private String root = "uploads/documents/blobs";
+
+        public String getRoot() {
+            return root;
+        }
+
+        public void setRoot(String root) {
+            this.root = root;
+        }
+    }
+
+    /**
+     * S3-compatible backend. Leave the endpoint empty for AWS; set it (and
+     * usually path-style access) for MinIO and similar services. Without an
+     * access key the default AWS credentials chain is used.
+     */
+    public static class S3 {
+
+        private String endpoint;
+        private String region = "us-east-1";
+        private String bucket = "internhub-documents";
+        private String keyPrefix = "blobs/";
+        private String accessKey;
+        private String secretKey;
+        private boolean pathStyleAccess = false;
+        private DataSize multipartThreshold = DataSize.ofMegabytes(16);
+        private DataSize partSize = DataSize.ofMegabytes(8);
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public void setEndpoint(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        public String getRegion() {
+            return region;
+        }
+
+        public void setRegion(String region) {
+            this.region = region;
+        }
+
+        public String getBucket() {
+            return bucket;
+        }
+
+        public void setBucket(String bucket) {
+            this.bucket = bucket;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public String getAccessKey() {
+            return accessKey;
+        }
+
+        public void setAccessKey(String accessKey) {
+            this.accessKey = accessKey;
+        }
+
+        public String getSecretKey() {
+            return secretKey;
+        }
+
+        public void setSecretKey(String secretKey) {
+            this.secretKey = secretKey;
+        }
+
+        public boolean isPathStyleAccess() {
+            return pathStyleAccess;
+        }
+
+        public void setPathStyleAccess(boolean pathStyleAccess) {
+            this.pathStyleAccess = pathStyleAccess;
+        }
+
+        public DataSize getMultipartThreshold() {
+            return multipartThreshold;
+        }
+
+        public void setMultipartThreshold(DataSize multipartThreshold) {
+            this.multipartThreshold = multipartThreshold;
+        }
+
+        public DataSize getPartSize() {
+            return partSize;
+        }
+
+        public void setPartSize(DataSize partSize) {
+            this.partSize = partSize;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.internhub.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read/write split when app.datasource.replica.enabled=true. Replaces the
+ * auto-configured DataSource with two pools, the primary from
+ * spring.datasource.* and the replica from app.datasource.replica.*, behind a
+ * {@link ReplicaRoutingDataSource}. Flyway migrates through the primary pool
+ * directly.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, ReadReplicaProperties replica,
+            Environment environment) {
+        if (!StringUtils.hasText(replica.getUrl())) {
+            throw new IllegalStateException("app.datasource.replica.url is required when the replica is enabled");
+        }
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(StringUtils.hasText(replica.getUsername()) ? replica.getUsername() : primary.determineUsername())
+                .password(StringUtils.hasText(replica.getPassword()) ? replica.getPassword() : primary.determinePassword())
+                .build();
+
+        // Same pool tuning as the primary, under its own name
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName((dataSource.getPoolName() != null ? dataSource.getPoolName() : "internhub") + "-replica");
+        if (replica.getMaximumPoolSize() != null) {
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica, ReadReplicaProperties properties,
+            ObjectProvider<CacheManager> cacheManager, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica,
+                properties.isFallbackToPrimary(), cacheManager, meterRegistry));
+    }
+}
@@ -0,0 +1,73 @@
+package com.internhub.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the optional PostgreSQL read replica (prefix
+ * "app.datasource.replica"). The replica pool takes its Hikari settings from
+ * spring.datasource.hikari; username and password default to the primary's.
+ * The read-your-writes window is the TTL of the stickyPrimary cache
+ * (app.cache.specs.stickyPrimary).
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private Integer maximumPoolSize;
+    /**
+     * Serve read-only transactions from the primary while the replica refuses
+     * connections.
+     */
+    private boolean fallbackToPrimary = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public Integer getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(Integer maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public boolean isFallbackToPrimary() {
+        return fallbackToPrimary;
+    }
+
+    public void setFallbackToPrimary(boolean fallbackToPrimary) {
+        this.fallbackToPrimary = fallbackToPrimary;
+    }
+}
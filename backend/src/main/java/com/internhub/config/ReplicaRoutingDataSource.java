@@ -0,0 +1,172 @@
+package com.internhub.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.internhub.cache.CacheNames;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything
+ * else (write transactions, work outside a transaction) to the primary.
+ *
+ * The decision is taken when the connection is borrowed, so this must sit
+ * behind a LazyConnectionDataSourceProxy: the transaction manager asks for a
+ * connection before it publishes the read-only flag.
+ *
+ * Read-your-writes: when a write transaction of an authenticated user
+ * commits, that user's read-only transactions stay on the primary for the
+ * sticky window, so e.g. the internship list right after submitInternship
+ * does not come from a lagging replica. The recent writers are kept in the
+ * stickyPrimary cache, whose TTLs are the window: with the Redis tier enabled
+ * the next request of the user sees them on whichever node it lands. Routing
+ * decisions are counted in db.routing.connections, tagged by target and
+ * reason.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    static final String ROUTING_METER = "db.routing.connections";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final boolean fallbackToPrimary;
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, boolean fallbackToPrimary,
+            ObjectProvider<CacheManager> cacheManager, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.fallbackToPrimary = fallbackToPrimary;
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return route(primary, "primary", "no-transaction");
+        }
+
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        markRecentWriter(user);
+                    }
+                });
+            }
+            return route(primary, "primary", "write");
+        }
+
+        if (user != null && isRecentWriter(user)) {
+            return route(primary, "primary", "sticky");
+        }
+        try {
+            return route(replica, "replica", "read");
+        } catch (SQLException e) {
+            if (!fallbackToPrimary) {
+                throw e;
+            }
+            log.warn("Read replica unavailable, using the primary: {}", e.getMessage());
+            return route(primary, "primary", "fallback");
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool");
+    }
+
+    private Connection route(DataSource target, String targetName, String reason) throws SQLException {
+        Connection connection = target.getConnection();
+        count(targetName, reason);
+        return connection;
+    }
+
+    private void markRecentWriter(String user) {
+        Cache recentWriters = recentWriters();
+        if (recentWriters == null) {
+            return;
+        }
+        try {
+            recentWriters.put(user, Boolean.TRUE);
+        } catch (RuntimeException e) {
+            log.warn("Could not record the write of {} for read-your-writes: {}", user, e.getMessage());
+        }
+    }
+
+    private boolean isRecentWriter(String user) {
+        Cache recentWriters = recentWriters();
+        if (recentWriters == null) {
+            return false;
+        }
+        try {
+            return recentWriters.get(user) != null;
+        } catch (RuntimeException e) {
+            // Better a replica read than a failed one
+            return false;
+        }
+    }
+
+    /**
+     * The stickyPrimary cache, bypassing the transaction-aware decorator: the
+     * mark is written from afterCommit, where a deferred put would be lost.
+     */
+    private Cache recentWriters() {
+        CacheManager manager = cacheManager.getIfAvailable();
+        if (manager == null) {
+            return null;
+        }
+        Cache cache = manager.getCache(CacheNames.STICKY_PRIMARY);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            return decorator.getTargetCache();
+        }
+        return cache;
+    }
+
+    private void count(String target, String reason) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        counters.computeIfAbsent(target + ':' + reason, key -> Counter.builder(ROUTING_METER)
+                .description("Connections handed out by the read/write routing DataSource")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(registry))
+                .increment();
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,111 @@
+package com.internhub.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the two-tier reference data cache (prefix "app.cache"). Each
+ * named cache gets its own local (L1) size and TTL and, when Redis is enabled,
+ * a shared (L2) TTL. Caches that are not listed use the defaults.
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public class TieredCacheProperties {
+
+    private final Redis redis = new Redis();
+    private final Spec defaults = new Spec();
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    public Redis getRedis() {
+        return redis;
+    }
+
+    public Spec getDefaults() {
+        return defaults;
+    }
+
+    public Map<String, Spec> getSpecs() {
+        return specs;
+    }
+
+    public void setSpecs(Map<String, Spec> specs) {
+        this.specs = specs;
+    }
+
+    /**
+     * Resolve the settings of a cache, falling back to the defaults.
+     */
+    public Spec specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    /**
+     * Optional shared Redis tier and cross-node invalidation channel.
+     */
+    public static class Redis {
+
+        private boolean enabled = false;
+        private String keyPrefix = "internhub:";
+        private String invalidationChannel = "internhub:cache-invalidation";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public String getInvalidationChannel() {
+            return invalidationChannel;
+        }
+
+        public void setInvalidationChannel(String invalidationChannel) {
+            this.invalidationChannel = invalidationChannel;
+        }
+    }
+
+    /**
+     * Per-cache sizing and expiry.
+     */
+    public static class Spec {
+
+        private long maxSize = 1000;
+        private Duration localTtl = Duration.ofMinutes(10);
+        private Duration remoteTtl = Duration.ofHours(1);
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getLocalTtl() {
+            return localTtl;
+        }
+
+        public void setLocalTtl(Duration localTtl) {
+            this.localTtl = localTtl;
+        }
+
+        public Duration getRemoteTtl() {
+            return remoteTtl;
+        }
+
+        public void setRemoteTtl(Duration remoteTtl) {
+            this.remoteTtl = remoteTtl;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.internhub.controller;
 
+import com.internhub.dto.CompactionStatsResponse;
 import com.internhub.dto.InternshipResponse;
+import com.internhub.dto.SecondLevelCacheStatsResponse;
 import com.internhub.dto.StatisticsResponse;
 import com.internhub.model.InternshipStatus;
 import com.internhub.model.Sector;
+import com.internhub.service.DocumentCompactionService;
 import com.internhub.service.InternshipService;
+import com.internhub.service.SecondLevelCacheService;
 import com.internhub.service.SectorService;
 import com.internhub.service.StatisticsService;
 import jakarta.validation.Valid;
@@ -22,7 +26,8 @@ import java.util.List;
  * @PreAuthorize for RBAC. Thin controller - delegates to service layer.
  *
  * Endpoints: - Sector CRUD - Internship management (list all, delete, reassign)
- * - Statistics (by status, by sector) - Advanced search
+ * - Statistics (by status, by sector) - Advanced search - Document storage
+ * compaction statistics - Second-level cache statistics
  */
 @RestController
 @RequestMapping("/api/admin")
@@ -32,13 +37,19 @@ public class AdminController {
     private final InternshipService internshipService;
     private final SectorService sectorService;
     private final StatisticsService statisticsService;
+    private final DocumentCompactionService documentCompactionService;
+    private final SecondLevelCacheService secondLevelCacheService;
 
     public AdminController(InternshipService internshipService,
             SectorService sectorService,
-            StatisticsService statisticsService) {
+            StatisticsService statisticsService,
+            DocumentCompactionService documentCompactionService,
+            SecondLevelCacheService secondLevelCacheService) {
         this.internshipService = internshipService;
         this.sectorService = sectorService;
         this.statisticsService = statisticsService;
+        this.documentCompactionService = documentCompactionService;
+        this.secondLevelCacheService = secondLevelCacheService;
     }
 
     // ========== SECTOR CRUD ==========
@@ -153,4 +164,20 @@ public class AdminController {
         List<StatisticsResponse> stats = statisticsService.getInternshipsByStatusAndSector();
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * Get bytes saved by compressing cold document blobs.
+     */
+    @GetMapping("/stats/storage-compaction")
+    public ResponseEntity<CompactionStatsResponse> getStorageCompactionStats() {
+        return ResponseEntity.ok(documentCompactionService.getStats());
+    }
+
+    /**
+     * Get hit/miss statistics of the Hibernate second-level cache regions.
+     */
+    @GetMapping("/stats/second-level-cache")
+    public ResponseEntity<List<SecondLevelCacheStatsResponse>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(secondLevelCacheService.getStatistics());
+    }
 }
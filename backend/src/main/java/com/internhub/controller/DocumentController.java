@@ -2,11 +2,18 @@ package com.internhub.controller;
 
 import com.internhub.dto.DocumentHistoryResponse;
 import com.internhub.dto.DocumentResponse;
+import com.internhub.exception.ResourceNotFoundException;
 import com.internhub.model.Document.DocumentType;
+import com.internhub.service.DocumentArchiveService;
+import com.internhub.service.DocumentDownloadService;
+import com.internhub.service.DocumentPreviewService;
 import com.internhub.service.DocumentService;
+import com.internhub.service.UserLookupService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -24,6 +32,10 @@ import java.util.List;
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final DocumentDownloadService documentDownloadService;
+    private final DocumentPreviewService documentPreviewService;
+    private final DocumentArchiveService documentArchiveService;
+    private final UserLookupService userLookupService;
 
     @PostMapping("/upload")
     @PreAuthorize("isAuthenticated()")
@@ -41,6 +53,36 @@ public class DocumentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Upload a document as the raw request body (Content-Type is the file's
+     * type), avoiding multipart spooling: the body is read once and streamed
+     * straight to storage.
+     */
+    @PostMapping("/upload-stream")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<DocumentResponse> uploadDocumentStream(
+            @RequestParam("internshipId") Long internshipId,
+            @RequestParam("fileName") String fileName,
+            @RequestParam("documentType") DocumentType documentType,
+            @RequestParam(value = "description", required = false) String description,
+            HttpServletRequest request,
+            Authentication authentication) throws IOException {
+
+        Long userId = userLookupService.findUserIdByEmail(authentication.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User", "email", authentication.getName()));
+        // Content type without parameters such as charset
+        String contentType = null;
+        if (request.getContentType() != null) {
+            MediaType mediaType = MediaType.parseMediaType(request.getContentType());
+            contentType = mediaType.getType() + "/" + mediaType.getSubtype();
+        }
+        DocumentResponse response = documentService.uploadDocumentStream(
+                internshipId, fileName, contentType, request.getContentLengthLong(),
+                request.getInputStream(), documentType, description, userId);
+
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/upload-version")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<DocumentResponse> uploadNewVersion(
@@ -89,17 +131,63 @@ public class DocumentController {
         return ResponseEntity.ok(history);
     }
 
+    @GetMapping("/internship/{internshipId}/latest-report")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<DocumentResponse> getLatestReport(@PathVariable Long internshipId) {
+        DocumentResponse report = documentService.getLatestReport(internshipId);
+        return ResponseEntity.ok(report);
+    }
+
     @GetMapping("/{documentId}/download")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Resource> downloadDocument(@PathVariable Long documentId) throws IOException {
-        Resource resource = documentService.downloadDocument(documentId);
-        DocumentResponse document = documentService.getDocumentById(documentId);
+    public void downloadDocument(
+            @PathVariable Long documentId,
+            @RequestParam(required = false, defaultValue = "false") boolean inline,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        documentDownloadService.serve(documentId, inline, request, response);
+    }
+
+    @GetMapping("/{documentId}/thumbnail")
+    @PreAuthorize("isAuthenticated()")
+    public void getThumbnail(
+            @PathVariable Long documentId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (!documentPreviewService.serve(documentId, DocumentPreviewService.Variant.THUMBNAIL, request, response)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+        }
+    }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(document.getContentType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + document.getOriginalFileName() + "\"")
-                .body(resource);
+    @GetMapping("/{documentId}/preview")
+    @PreAuthorize("isAuthenticated()")
+    public void getPreview(
+            @PathVariable Long documentId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (!documentPreviewService.serve(documentId, DocumentPreviewService.Variant.PREVIEW, request, response)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+        }
+    }
+
+    @GetMapping("/archive")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'INSTRUCTOR')")
+    public void downloadArchive(
+            @RequestParam(required = false) Long internshipId,
+            @RequestParam(required = false) Long sectorId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response,
+            Authentication authentication) throws IOException {
+        // Instructors only get the internships they follow or whose sector they cover
+        Long instructorId = null;
+        if (authentication.getAuthorities().stream().noneMatch(a -> "ADMIN".equals(a.getAuthority()))) {
+            instructorId = userLookupService.findUserIdByEmail(authentication.getName())
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "email", authentication.getName()));
+        }
+        if (!documentArchiveService.streamArchive(internshipId, sectorId, from, to, instructorId, response)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+        }
     }
 
     @DeleteMapping("/{documentId}")
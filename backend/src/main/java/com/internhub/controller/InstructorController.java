@@ -3,10 +3,8 @@ package com.internhub.controller;
 import java.io.IOException;
 import java.util.List;
 
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,13 +16,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.internhub.config.JwtTokenProvider;
-import com.internhub.dto.DocumentResponse;
 import com.internhub.dto.InternshipResponse;
+import com.internhub.dto.MessageResponse;
 import com.internhub.dto.RefusalRequest;
+import com.internhub.exception.BusinessException;
 import com.internhub.model.Document;
-import com.internhub.service.DocumentService;
+import com.internhub.service.DocumentDownloadService;
 import com.internhub.service.InternshipService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 /**
@@ -43,14 +44,14 @@ import jakarta.validation.Valid;
 public class InstructorController {
 
     private final InternshipService internshipService;
-    private final DocumentService documentService;
+    private final DocumentDownloadService documentDownloadService;
     private final JwtTokenProvider jwtTokenProvider;
 
     public InstructorController(InternshipService internshipService,
-            DocumentService documentService,
+            DocumentDownloadService documentDownloadService,
             JwtTokenProvider jwtTokenProvider) {
         this.internshipService = internshipService;
-        this.documentService = documentService;
+        this.documentDownloadService = documentDownloadService;
         this.jwtTokenProvider = jwtTokenProvider;
     }
 
@@ -88,14 +89,18 @@ public class InstructorController {
      * Claim an unassigned internship and assign it to current instructor.
      */
     @PostMapping("/{id}/claim")
-    public ResponseEntity<InternshipResponse> claimInternship(
+    public ResponseEntity<?> claimInternship(
             @PathVariable Long id,
             @RequestHeader("Authorization") String token) {
 
         Long instructorId = extractUserIdFromToken(token);
-        InternshipResponse response = internshipService.claimInternship(id, instructorId);
-
-        return ResponseEntity.ok(response);
+        try {
+            InternshipResponse response = internshipService.claimInternship(id, instructorId);
+            return ResponseEntity.ok(response);
+        } catch (BusinessException e) {
+            // Lost the race to another instructor
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse(e.getMessage()));
+        }
     }
 
     /**
@@ -117,14 +122,17 @@ public class InstructorController {
      * instructor as encadrant.
      */
     @PostMapping("/{id}/validate")
-    public ResponseEntity<InternshipResponse> validateInternship(
+    public ResponseEntity<?> validateInternship(
             @PathVariable Long id,
             @RequestHeader("Authorization") String token) {
 
         Long instructorId = extractUserIdFromToken(token);
-        InternshipResponse response = internshipService.validateInternship(id, instructorId);
-
-        return ResponseEntity.ok(response);
+        try {
+            InternshipResponse response = internshipService.validateInternship(id, instructorId);
+            return ResponseEntity.ok(response);
+        } catch (OptimisticLockingFailureException e) {
+            return concurrentModification();
+        }
     }
 
     /**
@@ -132,16 +140,27 @@ public class InstructorController {
      * refusal comment.
      */
     @PostMapping("/{id}/refuse")
-    public ResponseEntity<InternshipResponse> refuseInternship(
+    public ResponseEntity<?> refuseInternship(
             @PathVariable Long id,
             @Valid @RequestBody RefusalRequest refusalRequest,
             @RequestHeader("Authorization") String token) {
 
         Long instructorId = extractUserIdFromToken(token);
-        InternshipResponse response = internshipService.refuseInternship(
-                id, refusalRequest, instructorId);
+        try {
+            InternshipResponse response = internshipService.refuseInternship(
+                    id, refusalRequest, instructorId);
+            return ResponseEntity.ok(response);
+        } catch (OptimisticLockingFailureException e) {
+            return concurrentModification();
+        }
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * The internship changed (Internship.version) between read and update.
+     */
+    private ResponseEntity<MessageResponse> concurrentModification() {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new MessageResponse("Internship was modified concurrently, please reload and retry"));
     }
 
     /**
@@ -149,9 +168,11 @@ public class InstructorController {
      * DocumentService.
      */
     @GetMapping("/{id}/report")
-    public ResponseEntity<Resource> downloadReport(
+    public ResponseEntity<Void> downloadReport(
             @PathVariable Long id,
-            @RequestHeader("Authorization") String token) throws IOException {
+            @RequestHeader("Authorization") String token,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
 
         Long instructorId = extractUserIdFromToken(token);
 
@@ -161,24 +182,12 @@ public class InstructorController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        // Find the report document for this internship
-        List<DocumentResponse> documents = documentService.getInternshipDocuments(id);
-        DocumentResponse reportDoc = documents.stream()
-                .filter(doc -> doc.getDocumentType() == Document.DocumentType.REPORT && doc.getIsLatestVersion())
-                .findFirst()
-                .orElse(null);
-
-        if (reportDoc == null) {
+        // Look up and stream the latest report (Range / conditional GET
+        // aware); the response is fully written by the download service
+        if (!documentDownloadService.serveLatest(id, Document.DocumentType.REPORT, false, request, response)) {
             return ResponseEntity.notFound().build();
         }
-
-        // Download using DocumentService
-        Resource resource = documentService.downloadDocument(reportDoc.getId());
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + reportDoc.getFileName() + "\"")
-                .body(resource);
+        return null;
     }
 
     /**
@@ -5,13 +5,13 @@ import com.internhub.dto.DocumentResponse;
 import com.internhub.dto.InternshipRequest;
 import com.internhub.dto.InternshipResponse;
 import com.internhub.model.Document;
+import com.internhub.service.DocumentDownloadService;
 import com.internhub.service.DocumentService;
 import com.internhub.service.InternshipService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -40,14 +40,17 @@ public class StudentController {
 
     private final InternshipService internshipService;
     private final DocumentService documentService;
+    private final DocumentDownloadService documentDownloadService;
     private final JwtTokenProvider jwtTokenProvider;
 
     public StudentController(
             InternshipService internshipService,
             DocumentService documentService,
+            DocumentDownloadService documentDownloadService,
             JwtTokenProvider jwtTokenProvider) {
         this.internshipService = internshipService;
         this.documentService = documentService;
+        this.documentDownloadService = documentDownloadService;
         this.jwtTokenProvider = jwtTokenProvider;
     }
 
@@ -153,7 +156,9 @@ public class StudentController {
     public ResponseEntity<?> downloadReport(
             @PathVariable Long id,
             @RequestParam(required = false, defaultValue = "false") boolean inline,
-            @RequestHeader("Authorization") String token) {
+            @RequestHeader("Authorization") String token,
+            HttpServletRequest request,
+            HttpServletResponse response) {
 
         try {
             Long studentId = extractUserIdFromToken(token);
@@ -165,29 +170,18 @@ public class StudentController {
                         .body(Map.of("error", "Unauthorized: Not your internship"));
             }
 
-            // Find the report document for this internship
-            List<DocumentResponse> documents = documentService.getInternshipDocuments(id);
-            DocumentResponse reportDoc = documents.stream()
-                    .filter(doc -> doc.getDocumentType() == Document.DocumentType.REPORT && doc.getIsLatestVersion())
-                    .findFirst()
-                    .orElse(null);
-
-            if (reportDoc == null) {
+            // Look up and stream the latest report (Range / conditional GET
+            // aware); the response is fully written by the download service
+            if (!documentDownloadService.serveLatest(id, Document.DocumentType.REPORT, inline, request, response)) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(Map.of("error", "No report uploaded for this internship"));
             }
-
-            // Download using DocumentService
-            Resource resource = documentService.downloadDocument(reportDoc.getId());
-
-            String dispositionType = inline ? "inline" : "attachment";
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_PDF)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, dispositionType + "; filename=\"" + reportDoc.getFileName() + "\"")
-                    .body(resource);
+            return null;
 
         } catch (Exception e) {
+            if (response.isCommitted()) {
+                return null;
+            }
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Error retrieving report: " + e.getMessage()));
         }
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.internhub.cache.SectorRoutingTable;
 import com.internhub.dto.MessageResponse;
 import com.internhub.model.Role;
 import com.internhub.model.Sector;
@@ -27,6 +28,9 @@ import com.internhub.model.User;
 import com.internhub.repository.SectorRepository;
 import com.internhub.repository.UserRepository;
 import com.internhub.service.EmailService;
+import com.internhub.service.InternshipAssignmentService;
+import com.internhub.service.SecondLevelCacheService;
+import com.internhub.service.UserLookupService;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
@@ -47,16 +51,28 @@ public class UserManagementController {
     private final SectorRepository sectorRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final UserLookupService userLookupService;
+    private final SecondLevelCacheService secondLevelCacheService;
+    private final SectorRoutingTable sectorRoutingTable;
+    private final InternshipAssignmentService assignmentService;
 
     public UserManagementController(
             UserRepository userRepository,
             SectorRepository sectorRepository,
             PasswordEncoder passwordEncoder,
-            EmailService emailService) {
+            EmailService emailService,
+            UserLookupService userLookupService,
+            SecondLevelCacheService secondLevelCacheService,
+            SectorRoutingTable sectorRoutingTable,
+            InternshipAssignmentService assignmentService) {
         this.userRepository = userRepository;
         this.sectorRepository = sectorRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
+        this.userLookupService = userLookupService;
+        this.secondLevelCacheService = secondLevelCacheService;
+        this.sectorRoutingTable = sectorRoutingTable;
+        this.assignmentService = assignmentService;
     }
 
     /**
@@ -99,7 +115,8 @@ public class UserManagementController {
                 instructor.setSectors(sectors);
             }
 
-            userRepository.save(instructor);
+            User saved = userRepository.save(instructor);
+            sectorRoutingTable.assign(saved.getId(), request.getSectorIds() != null ? request.getSectorIds() : List.of());
 
             // Send activation email
             emailService.sendInstructorActivationEmail(
@@ -177,6 +194,9 @@ public class UserManagementController {
             instructor.setSectors(sectors);
             instructor.setUpdatedAt(LocalDateTime.now());
             userRepository.save(instructor);
+            sectorRoutingTable.assign(id, sectorIds);
+            secondLevelCacheService.evictInstructorSectors(id);
+            assignmentService.rebalanceAfterCommit(id);
 
             return ResponseEntity.ok(new MessageResponse("Instructor sectors updated successfully"));
 
@@ -201,6 +221,8 @@ public class UserManagementController {
             }
 
             userRepository.delete(user);
+            userLookupService.evictUser(user.getEmail(), user.getId());
+            sectorRoutingTable.removeInstructor(user.getId());
 
             return ResponseEntity.ok(new MessageResponse("User deleted successfully"));
 
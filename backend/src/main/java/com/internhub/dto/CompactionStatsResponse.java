@@ -0,0 +1,57 @@
+package com.internhub.dto;
+
+/**
+ * DTO for document storage compaction statistics: how many blobs are held
+ * compressed and how many bytes that saves.
+ */
+public class CompactionStatsResponse {
+
+    private Long compressedBlobs;   // Blobs stored compressed
+    private Long originalBytes;     // Size of their original content
+    private Long storedBytes;       // Size actually stored
+    private Long bytesSaved;
+
+    // Constructors
+    public CompactionStatsResponse() {
+    }
+
+    public CompactionStatsResponse(Long compressedBlobs, Long originalBytes, Long storedBytes) {
+        this.compressedBlobs = compressedBlobs;
+        this.originalBytes = originalBytes != null ? originalBytes : 0L;
+        this.storedBytes = storedBytes != null ? storedBytes : 0L;
+        this.bytesSaved = this.originalBytes - this.storedBytes;
+    }
+
+    // Getters and Setters
+    public Long getCompressedBlobs() {
+        return compressedBlobs;
+    }
+
+    public void setCompressedBlobs(Long compressedBlobs) {
+        this.compressedBlobs = compressedBlobs;
+    }
+
+    public Long getOriginalBytes() {
+        return originalBytes;
+    }
+
+    public void setOriginalBytes(Long originalBytes) {
+        this.originalBytes = originalBytes;
+    }
+
+    public Long getStoredBytes() {
+        return storedBytes;
+    }
+
+    public void setStoredBytes(Long storedBytes) {
+        this.storedBytes = storedBytes;
+    }
+
+    public Long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    public void setBytesSaved(Long bytesSaved) {
+        this.bytesSaved = bytesSaved;
+    }
+}
@@ -1,6 +1,7 @@
 package com.internhub.dto;
 
 import com.internhub.model.Document.DocumentType;
+import com.internhub.model.Document.ScanStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -28,4 +29,5 @@ public class DocumentResponse {
     private Long previousVersionId;
     private LocalDateTime createdAt;
     private String downloadUrl;
+    private ScanStatus scanStatus;
 }
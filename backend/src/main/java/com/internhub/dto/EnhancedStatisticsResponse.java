@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -14,7 +15,9 @@ import java.util.Map;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class EnhancedStatisticsResponse {
+public class EnhancedStatisticsResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     // Overview metrics
     private Long totalInternships;
@@ -57,7 +60,9 @@ public class EnhancedStatisticsResponse {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class TimeSeriesData {
+    public static class TimeSeriesData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private String period; // e.g., "2024-01", "Week 1"
         private Long count;
@@ -67,7 +72,9 @@ public class EnhancedStatisticsResponse {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class TopPerformerData {
+    public static class TopPerformerData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private String name;
         private Long count;
@@ -77,7 +84,9 @@ public class EnhancedStatisticsResponse {
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class TrendData {
+    public static class TrendData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private Long currentPeriod;
         private Long previousPeriod;
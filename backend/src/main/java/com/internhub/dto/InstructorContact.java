@@ -0,0 +1,59 @@
+package com.internhub.dto;
+
+import java.io.Serializable;
+
+/**
+ * Minimal, cacheable view of an instructor used for submission fan-out
+ * (e-mail address and display name only).
+ */
+public class InstructorContact implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private String email;
+    private String firstName;
+    private String lastName;
+
+    public InstructorContact() {
+    }
+
+    public InstructorContact(Long id, String email, String firstName, String lastName) {
+        this.id = id;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+}
@@ -0,0 +1,79 @@
+package com.internhub.dto;
+
+/**
+ * DTO for the statistics of one Hibernate second-level cache region. Counts
+ * stay at zero unless hibernate.generate_statistics is enabled.
+ */
+public class SecondLevelCacheStatsResponse {
+
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCountInMemory;  // -1 when the provider does not report it
+    private double hitRatio;
+
+    // Constructors
+    public SecondLevelCacheStatsResponse() {
+    }
+
+    public SecondLevelCacheStatsResponse(String region, long hitCount, long missCount, long putCount,
+            long elementCountInMemory) {
+        this.region = region;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.elementCountInMemory = elementCountInMemory;
+        long lookups = hitCount + missCount;
+        this.hitRatio = lookups > 0 ? (double) hitCount / lookups : 0.0;
+    }
+
+    // Getters and Setters
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+
+    public long getPutCount() {
+        return putCount;
+    }
+
+    public void setPutCount(long putCount) {
+        this.putCount = putCount;
+    }
+
+    public long getElementCountInMemory() {
+        return elementCountInMemory;
+    }
+
+    public void setElementCountInMemory(long elementCountInMemory) {
+        this.elementCountInMemory = elementCountInMemory;
+    }
+
+    public double getHitRatio() {
+        return hitRatio;
+    }
+
+    public void setHitRatio(double hitRatio) {
+        this.hitRatio = hitRatio;
+    }
+}
@@ -1,10 +1,14 @@
 package com.internhub.dto;
 
+import java.io.Serializable;
+
 /**
  * DTO for statistics response (by status or by sector). Generic structure for
  * aggregated counts.
  */
-public class StatisticsResponse {
+public class StatisticsResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private String label;      // Status or Sector name
     private Long count;        // Number of internships
@@ -0,0 +1,30 @@
+package com.internhub.event;
+
+/**
+ * Application event published when a document has passed its content scan
+ * and may be served (and processed further, e.g. rendered for previews).
+ */
+public class DocumentScannedEvent {
+
+    private final Long documentId;
+    private final String contentHash;
+    private final String contentType;
+
+    public DocumentScannedEvent(Long documentId, String contentHash, String contentType) {
+        this.documentId = documentId;
+        this.contentHash = contentHash;
+        this.contentType = contentType;
+    }
+
+    public Long getDocumentId() {
+        return documentId;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,31 @@
+package com.internhub.event;
+
+/**
+ * Application event published when a document version has been stored.
+ * Listeners that derive data from the content (previews, scans) key it by the
+ * content hash.
+ */
+public class DocumentStoredEvent {
+
+    private final Long documentId;
+    private final String contentHash;
+    private final String contentType;
+
+    public DocumentStoredEvent(Long documentId, String contentHash, String contentType) {
+        this.documentId = documentId;
+        this.contentHash = contentHash;
+        this.contentType = contentType;
+    }
+
+    public Long getDocumentId() {
+        return documentId;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
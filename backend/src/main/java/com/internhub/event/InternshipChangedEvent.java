@@ -0,0 +1,76 @@
+package com.internhub.event;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.internhub.model.Internship;
+import com.internhub.model.InternshipStatus;
+
+/**
+ * Application event published whenever an internship is created, modified,
+ * transitioned or deleted. Carries the sectors and statuses the change touched
+ * (before and after) so listeners can invalidate derived data selectively.
+ * Serializable so it can be broadcast to the other nodes.
+ */
+public class InternshipChangedEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long internshipId;
+    private final Set<Long> sectorIds;
+    private final Set<InternshipStatus> statuses;
+
+    public InternshipChangedEvent(Long internshipId, Set<Long> sectorIds, Set<InternshipStatus> statuses) {
+        this.internshipId = internshipId;
+        this.sectorIds = Collections.unmodifiableSet(sectorIds);
+        this.statuses = Collections.unmodifiableSet(statuses);
+    }
+
+    /**
+     * Build an event for an internship whose sector and status did not change
+     * (or for a freshly created one).
+     */
+    public static InternshipChangedEvent of(Internship internship) {
+        return of(internship, null, null);
+    }
+
+    /**
+     * Build an event for an internship, also recording the sector and status it
+     * had before the change.
+     */
+    public static InternshipChangedEvent of(Internship internship, Long previousSectorId,
+            InternshipStatus previousStatus) {
+        Set<Long> sectorIds = new HashSet<>();
+        if (internship.getSector() != null) {
+            sectorIds.add(internship.getSector().getId());
+        }
+        if (previousSectorId != null) {
+            sectorIds.add(previousSectorId);
+        }
+
+        Set<InternshipStatus> statuses = EnumSet.noneOf(InternshipStatus.class);
+        if (internship.getStatus() != null) {
+            statuses.add(internship.getStatus());
+        }
+        if (previousStatus != null) {
+            statuses.add(previousStatus);
+        }
+
+        return new InternshipChangedEvent(internship.getId(), sectorIds, statuses);
+    }
+
+    public Long getInternshipId() {
+        return internshipId;
+    }
+
+    public Set<Long> getSectorIds() {
+        return sectorIds;
+    }
+
+    public Set<InternshipStatus> getStatuses() {
+        return statuses;
+    }
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 /**
@@ -28,7 +29,8 @@ import jakarta.persistence.Table;
 public class ActivityLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_logs_seq")
+    @SequenceGenerator(name = "activity_logs_seq", sequenceName = "activity_logs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -90,6 +92,20 @@ public class ActivityLog {
         this.description = description;
     }
 
+    /**
+     * Create a log entry whose e-mail is already known, so a lazy user
+     * reference is not initialized just to read it.
+     */
+    public ActivityLog(User user, String userEmail, String actionType, String entityType, Long entityId,
+            String description) {
+        this.user = user;
+        this.userEmail = user != null ? userEmail : "system";
+        this.actionType = actionType;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.description = description;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
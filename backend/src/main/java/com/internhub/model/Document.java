@@ -8,14 +8,22 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "documents")
+@Table(name = "documents", uniqueConstraints = {
+    // At most one row per version of a file, even under concurrent uploads
+    @UniqueConstraint(name = "uk_documents_internship_file_version",
+            columnNames = {"internship_id", "original_file_name", "version"})
+}, indexes = {
+    // Reuse of scan verdicts for identical content
+    @Index(name = "idx_documents_content_hash", columnList = "content_hash")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Document {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "documents_seq")
+    @SequenceGenerator(name = "documents_seq", sequenceName = "documents_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,6 +49,21 @@ public class Document {
     @Column(name = "content_type", nullable = false)
     private String contentType;
 
+    /**
+     * Hex SHA-256 of the file content, computed at upload. Used as the strong
+     * ETag on downloads; null for documents uploaded before it was recorded.
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    /**
+     * Shared content-addressed file; filePath is the blob's storage path. Null
+     * for documents stored before deduplication, which own their file.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_id")
+    private DocumentBlob blob;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "document_type", nullable = false)
     private DocumentType documentType;
@@ -61,6 +84,18 @@ public class Document {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * Result of the post-upload content scan. Downloads are held while
+     * PENDING and refused when QUARANTINED; null for documents uploaded before
+     * scanning, which are treated as clean.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scan_status", length = 16)
+    private ScanStatus scanStatus;
+
+    @Column(name = "scanned_at")
+    private LocalDateTime scannedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -73,4 +108,18 @@ public class Document {
         EVALUATION,
         OTHER
     }
+
+    public enum ScanStatus {
+        PENDING,
+        CLEAN,
+        QUARANTINED
+    }
+
+    /**
+     * Whether the content may be served (scanned clean, or uploaded before
+     * scanning existed).
+     */
+    public boolean isScanClean() {
+        return scanStatus == null || scanStatus == ScanStatus.CLEAN;
+    }
 }
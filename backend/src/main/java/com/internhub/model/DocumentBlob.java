@@ -0,0 +1,93 @@
+package com.internhub.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored file, addressed by the SHA-256 of its content. Identical uploads
+ * share one blob; refCount is the number of {@link Document} rows pointing at
+ * it, and the file is removed when it drops to zero.
+ *
+ * Reference counts are only changed with atomic SQL updates in
+ * {@link com.internhub.repository.DocumentBlobRepository}, never through the
+ * entity.
+ *
+ * Cold blobs may be compressed in place by the compaction job; compression is
+ * null until the blob has been considered, and fileSize is always the size of
+ * the original content.
+ */
+@Entity
+@Table(name = "document_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "storage_path", nullable = false)
+    private String storagePath;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "compression", length = 16)
+    private Compression compression;
+
+    @Column(name = "stored_size")
+    private Long storedSize;
+
+    /**
+     * Set when the blob is switched to its compressed copy: the uncompressed
+     * original is kept until then for downloads that resolved it before the
+     * switch, and deleted by a later compaction run.
+     */
+    @Column(name = "original_delete_after")
+    private LocalDateTime originalDeleteAfter;
+
+    /**
+     * How the content of a blob is held in storage. Each encoding has its own
+     * storage key, so a blob is never overwritten in place.
+     */
+    public enum Compression {
+        NONE(""),
+        GZIP(".gz");
+
+        private final String keySuffix;
+
+        Compression(String keySuffix) {
+            this.keySuffix = keySuffix;
+        }
+
+        public String key(String contentHash) {
+            return contentHash + keySuffix;
+        }
+    }
+
+    /**
+     * Storage key of the content as currently stored.
+     */
+    public String storageKey() {
+        return compression == null ? contentHash : compression.key(contentHash);
+    }
+
+    public boolean isCompressed() {
+        return compression != null && compression != Compression.NONE;
+    }
+}
@@ -11,11 +11,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 /**
  * Core entity representing an internship/stage. Manages the complete internship
@@ -26,11 +29,22 @@ import jakarta.persistence.Table;
  * (encadrant/supervisor) - ManyToOne with Sector
  */
 @Entity
-@Table(name = "internships")
+@Table(name = "internships", indexes = {
+    // Sort keys whitelisted by InternshipSortRegistry, with the id tie-breaker
+    @Index(name = "idx_internships_created_at_id", columnList = "created_at,id"),
+    @Index(name = "idx_internships_start_date_id", columnList = "start_date,id"),
+    @Index(name = "idx_internships_end_date_id", columnList = "end_date,id"),
+    @Index(name = "idx_internships_status_id", columnList = "status,id"),
+    @Index(name = "idx_internships_company_name_id", columnList = "company_name,id"),
+    // Common filter + default sort combinations
+    @Index(name = "idx_internships_status_created_at", columnList = "status,created_at,id"),
+    @Index(name = "idx_internships_sector_created_at", columnList = "sector_id,created_at,id")
+})
 public class Internship {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "internships_seq")
+    @SequenceGenerator(name = "internships_seq", sequenceName = "internships_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -82,6 +96,10 @@ public class Internship {
     @Column(name = "validated_at")
     private LocalDateTime validatedAt;  // When status changed to VALIDATED
 
+    @Version
+    @Column(nullable = false)
+    private Long version;  // Optimistic lock; also bumped by the conditional claim UPDATE
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -288,4 +306,12 @@ public class Internship {
     public void setValidatedAt(LocalDateTime validatedAt) {
         this.validatedAt = validatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class NotificationPreference {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_preferences_seq")
+    @SequenceGenerator(name = "notification_preferences_seq", sequenceName = "notification_preferences_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
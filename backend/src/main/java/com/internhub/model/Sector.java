@@ -1,16 +1,29 @@
 package com.internhub.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
  * Entity representing a business sector (e.g., IT, Finance, Healthcare).
  * Sectors are assigned to internships and instructors. Follows Single
- * Responsibility Principle (SRP) - manages sector data only.
+ * Responsibility Principle (SRP) - manages sector data only. Serializable so
+ * it can be held in the shared (Redis) reference data cache. Held in the
+ * Hibernate second-level cache (region "sector"), so sector lookups and
+ * lazy loads do not reach the database.
  */
 @Entity
 @Table(name = "sectors")
-public class Sector {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Sector.CACHE_REGION)
+public class Sector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String CACHE_REGION = "sector";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
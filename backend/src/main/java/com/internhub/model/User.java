@@ -17,10 +17,18 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 @Entity
 @Table(name = "users")
 public class User {
 
+    /**
+     * Second-level cache region of the instructor sector sets.
+     */
+    public static final String SECTORS_CACHE_REGION = "instructor-sectors";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,6 +52,7 @@ public class User {
     private Role role = Role.STUDENT;  // Default role
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SECTORS_CACHE_REGION)
     @JoinTable(
             name = "instructor_sectors",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -6,6 +6,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -85,6 +86,7 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
     /**
      * Delete old logs (for data retention policy).
      */
+    @Modifying
     @Query("DELETE FROM ActivityLog a WHERE a.createdAt < :cutoffDate")
-    void deleteOldLogs(@Param("cutoffDate") LocalDateTime cutoffDate);
+    int deleteOldLogs(@Param("cutoffDate") LocalDateTime cutoffDate);
 }
@@ -0,0 +1,97 @@
+package com.internhub.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.internhub.dto.CompactionStatsResponse;
+import com.internhub.model.DocumentBlob;
+import com.internhub.model.InternshipStatus;
+
+@Repository
+public interface DocumentBlobRepository extends JpaRepository<DocumentBlob, Long> {
+
+    Optional<DocumentBlob> findByContentHash(String contentHash);
+
+    /**
+     * Serialize work on the stored files of one content until the calling
+     * transaction ends (transaction-scoped advisory lock on the hash). Unlike a
+     * row lock it also covers content whose row does not exist (yet or any
+     * more).
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtextextended(:contentHash, 0))", nativeQuery = true)
+    Integer lockContent(@Param("contentHash") String contentHash);
+
+    /**
+     * Create the blob row for a hash, or take one more reference on the
+     * existing row. Atomic under concurrent uploads of the same content; the
+     * conflicting row stays locked until the calling transaction ends.
+     *
+     * @return id of the blob row
+     */
+    @Query(value = "INSERT INTO document_blobs (content_hash, storage_path, file_size, ref_count, created_at) "
+            + "VALUES (:contentHash, :storagePath, :fileSize, 1, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT (content_hash) DO UPDATE SET ref_count = document_blobs.ref_count + 1 "
+            + "RETURNING id", nativeQuery = true)
+    Long acquire(@Param("contentHash") String contentHash, @Param("storagePath") String storagePath,
+            @Param("fileSize") Long fileSize);
+
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.refCount = b.refCount - 1 WHERE b.id = :id")
+    int decrementRefCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM DocumentBlob b WHERE b.id = :id AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("id") Long id);
+
+    /**
+     * Blobs not yet considered for compression whose documents are all cold:
+     * none of them is the latest version of a file on an internship that is
+     * still running. Only blobs of the given (compressible) content types,
+     * in id order after afterId.
+     */
+    @Query("SELECT b.id FROM DocumentBlob b WHERE b.compression IS NULL AND b.id > :afterId "
+            + "AND EXISTS (SELECT d.id FROM Document d WHERE d.blob = b AND d.contentType IN :contentTypes) "
+            + "AND NOT EXISTS (SELECT d.id FROM Document d WHERE d.blob = b AND d.isLatestVersion = true "
+            + "AND d.internship.status <> :completed) "
+            + "ORDER BY b.id")
+    List<Long> findCompactionCandidates(@Param("afterId") Long afterId, @Param("contentTypes") Collection<String> contentTypes,
+            @Param("completed") InternshipStatus completed, Pageable pageable);
+
+    /**
+     * Record the outcome of compressing a blob, unless it was already
+     * compacted (or deleted) concurrently. originalDeleteAfter is null when the
+     * original stays the stored copy.
+     */
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.compression = :compression, b.storedSize = :storedSize, "
+            + "b.storagePath = :storagePath, b.originalDeleteAfter = :originalDeleteAfter "
+            + "WHERE b.id = :id AND b.compression IS NULL")
+    int markCompacted(@Param("id") Long id, @Param("compression") DocumentBlob.Compression compression,
+            @Param("storedSize") Long storedSize, @Param("storagePath") String storagePath,
+            @Param("originalDeleteAfter") LocalDateTime originalDeleteAfter);
+
+    /**
+     * Compressed blobs whose uncompressed original is past its grace period,
+     * in id order after afterId.
+     */
+    @Query("SELECT b.id FROM DocumentBlob b WHERE b.originalDeleteAfter <= :now AND b.id > :afterId ORDER BY b.id")
+    List<Long> findOriginalsDueForDeletion(@Param("now") LocalDateTime now, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.originalDeleteAfter = NULL WHERE b.id = :id")
+    int clearOriginalDeleteAfter(@Param("id") Long id);
+
+    @Query("SELECT new com.internhub.dto.CompactionStatsResponse(COUNT(b), SUM(b.fileSize), SUM(b.storedSize)) "
+            + "FROM DocumentBlob b WHERE b.compression = :compression")
+    CompactionStatsResponse getCompactionStats(@Param("compression") DocumentBlob.Compression compression);
+}
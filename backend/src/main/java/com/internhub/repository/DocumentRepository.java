@@ -1,15 +1,20 @@
 package com.internhub.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.internhub.model.Document;
 import com.internhub.model.Document.DocumentType;
+import com.internhub.model.Document.ScanStatus;
 import com.internhub.model.Internship;
 
 @Repository
@@ -24,15 +29,99 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     Optional<Document> findByInternshipAndDocumentTypeAndIsLatestVersionTrue(
             Internship internship, DocumentType documentType);
 
+    /**
+     * Most recent latest-version document of a type for an internship. Served
+     * by the partial index idx_documents_latest_by_type (V1 migration).
+     */
+    Optional<Document> findFirstByInternshipIdAndDocumentTypeAndIsLatestVersionTrueOrderByCreatedAtDesc(
+            Long internshipId, DocumentType documentType);
+
+    /**
+     * Which of the given internships have a latest-version document of a type
+     * (idx_documents_latest_by_type).
+     */
+    @Query("SELECT DISTINCT d.internship.id FROM Document d WHERE d.internship.id IN :internshipIds "
+            + "AND d.documentType = :documentType AND d.isLatestVersion = true")
+    List<Long> findInternshipIdsWithLatestDocument(@Param("internshipIds") Collection<Long> internshipIds,
+            @Param("documentType") DocumentType documentType);
+
     @Query("SELECT d FROM Document d WHERE d.originalFileName = :originalFileName "
             + "AND d.internship = :internship ORDER BY d.version DESC")
     List<Document> findVersionHistory(@Param("originalFileName") String originalFileName,
             @Param("internship") Internship internship);
 
-    @Query("SELECT MAX(d.version) FROM Document d WHERE d.originalFileName = :originalFileName "
-            + "AND d.internship = :internship")
-    Optional<Integer> findLatestVersion(@Param("originalFileName") String originalFileName,
-            @Param("internship") Internship internship);
+    /**
+     * Highest version of a file (one index probe on the unique
+     * internship/file/version key).
+     */
+    Optional<Document> findFirstByInternshipAndOriginalFileNameOrderByVersionDesc(
+            Internship internship, String originalFileName);
+
+    /**
+     * Clear the latest-version flag on every version of a file in one
+     * statement.
+     */
+    @Modifying
+    @Query("UPDATE Document d SET d.isLatestVersion = false WHERE d.internship = :internship "
+            + "AND d.originalFileName = :originalFileName AND d.isLatestVersion = true")
+    int clearLatestVersion(@Param("internship") Internship internship,
+            @Param("originalFileName") String originalFileName);
+
+    /**
+     * Latest versions of the documents matching optional internship, sector and
+     * upload-date filters (null means no filter), with internship, student and
+     * blob fetched for archive downloads. With instructorId set, only
+     * internships that instructor is assigned to or whose sector they cover.
+     * The casts give PostgreSQL a type for null timestamp parameters.
+     */
+    @Query("SELECT d FROM Document d JOIN FETCH d.internship i JOIN FETCH i.student LEFT JOIN FETCH d.blob "
+            + "WHERE d.isLatestVersion = true AND "
+            + "(:internshipId IS NULL OR i.id = :internshipId) AND "
+            + "(:sectorId IS NULL OR i.sector.id = :sectorId) AND "
+            + "(CAST(:uploadedFrom AS LocalDateTime) IS NULL OR d.createdAt >= :uploadedFrom) AND "
+            + "(CAST(:uploadedBefore AS LocalDateTime) IS NULL OR d.createdAt < :uploadedBefore) AND "
+            + "(:instructorId IS NULL OR i.instructor.id = :instructorId OR i.sector.id IN "
+            + "(SELECT s.id FROM User u JOIN u.sectors s WHERE u.id = :instructorId)) "
+            + "ORDER BY i.id, d.originalFileName")
+    List<Document> findLatestForArchive(@Param("internshipId") Long internshipId,
+            @Param("sectorId") Long sectorId,
+            @Param("uploadedFrom") LocalDateTime uploadedFrom,
+            @Param("uploadedBefore") LocalDateTime uploadedBefore,
+            @Param("instructorId") Long instructorId);
+
+    /**
+     * Document with its blob fetched, for work done outside a persistence
+     * context (background workers).
+     */
+    @Query("SELECT d FROM Document d LEFT JOIN FETCH d.blob WHERE d.id = :id")
+    Optional<Document> findWithBlobById(@Param("id") Long id);
+
+    /**
+     * Ids of documents in a scan status uploaded before a cutoff, oldest
+     * first. Pending ones are served by the partial index
+     * idx_documents_scan_pending (V1 migration).
+     */
+    @Query("SELECT d.id FROM Document d WHERE d.scanStatus = :scanStatus AND d.createdAt < :createdBefore "
+            + "ORDER BY d.createdAt")
+    List<Long> findIdsByScanStatusCreatedBefore(@Param("scanStatus") ScanStatus scanStatus,
+            @Param("createdBefore") LocalDateTime createdBefore, Pageable pageable);
+
+    /**
+     * Final scan verdicts already reached for the same content.
+     */
+    @Query("SELECT d.scanStatus FROM Document d WHERE d.contentHash = :contentHash AND d.scanStatus IN :verdicts "
+            + "ORDER BY d.scannedAt DESC")
+    List<ScanStatus> findScanVerdicts(@Param("contentHash") String contentHash,
+            @Param("verdicts") Collection<ScanStatus> verdicts, Pageable pageable);
+
+    /**
+     * Record a scan verdict, unless the document is no longer pending.
+     */
+    @Modifying
+    @Query("UPDATE Document d SET d.scanStatus = :verdict, d.scannedAt = :scannedAt "
+            + "WHERE d.id = :id AND d.scanStatus = :pending")
+    int completeScan(@Param("id") Long id, @Param("verdict") ScanStatus verdict,
+            @Param("scannedAt") LocalDateTime scannedAt, @Param("pending") ScanStatus pending);
 
     Long countByInternship(Internship internship);
 
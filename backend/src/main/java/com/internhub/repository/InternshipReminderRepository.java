@@ -0,0 +1,88 @@
+package com.internhub.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.internhub.model.InternshipReminder;
+import com.internhub.model.InternshipReminder.State;
+
+/**
+ * Repository for the deadline reminder table. The planning statements insert
+ * ids straight from internship_reminders_seq: each nextval is the start of a
+ * block the pooled-lo optimizer never hands out, so they cannot collide with
+ * ids allocated by Hibernate.
+ */
+@Repository
+public interface InternshipReminderRepository extends JpaRepository<InternshipReminder, Long> {
+
+    /**
+     * Plan an END_DATE_APPROACHING reminder, daysBefore the end date at
+     * fireHour, for every VALIDATED or IN_PROGRESS internship ending between
+     * from and to (range on idx_internships_end_date_id). Internships that
+     * already have one are skipped. Returns the number of reminders planned.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO internship_reminders (id, internship_id, kind, fire_at, state, created_at) "
+            + "SELECT nextval('internship_reminders_seq'), i.id, 'END_DATE_APPROACHING', "
+            + "(i.end_date - CAST(:daysBefore AS integer)) + make_interval(hours => CAST(:fireHour AS integer)), "
+            + "'PENDING', now() "
+            + "FROM internships i "
+            + "WHERE i.end_date BETWEEN :from AND :to AND i.status IN ('VALIDATED', 'IN_PROGRESS') "
+            + "ON CONFLICT (internship_id, kind) DO NOTHING", nativeQuery = true)
+    int planEndDateReminders(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("daysBefore") int daysBefore,
+            @Param("fireHour") int fireHour
+    );
+
+    /**
+     * Plan a REPORT_MISSING reminder, daysBefore the end date at fireHour, for
+     * every VALIDATED or IN_PROGRESS internship ending between from and to
+     * that has no latest-version REPORT document yet
+     * (idx_documents_latest_by_type). Returns the number of reminders planned.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO internship_reminders (id, internship_id, kind, fire_at, state, created_at) "
+            + "SELECT nextval('internship_reminders_seq'), i.id, 'REPORT_MISSING', "
+            + "(i.end_date - CAST(:daysBefore AS integer)) + make_interval(hours => CAST(:fireHour AS integer)), "
+            + "'PENDING', now() "
+            + "FROM internships i "
+            + "WHERE i.end_date BETWEEN :from AND :to AND i.status IN ('VALIDATED', 'IN_PROGRESS') "
+            + "AND NOT EXISTS (SELECT 1 FROM documents d WHERE d.internship_id = i.id "
+            + "AND d.document_type = 'REPORT' AND d.is_latest_version) "
+            + "ON CONFLICT (internship_id, kind) DO NOTHING", nativeQuery = true)
+    int planReportReminders(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("daysBefore") int daysBefore,
+            @Param("fireHour") int fireHour
+    );
+
+    /**
+     * Lock up to :limit due pending reminders, oldest first, skipping rows
+     * locked by another node dispatching at the same time.
+     */
+    @Query(value = "SELECT * FROM internship_reminders WHERE state = 'PENDING' AND fire_at <= :now "
+            + "ORDER BY fire_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<InternshipReminder> lockDueReminders(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Record the outcome of a set of reminders.
+     */
+    @Modifying
+    @Query("UPDATE InternshipReminder r SET r.state = :state, r.processedAt = :now WHERE r.id IN :ids")
+    int markProcessed(
+            @Param("ids") Collection<Long> ids,
+            @Param("state") State state,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -1,10 +1,16 @@
 package com.internhub.repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,6 +19,8 @@ import com.internhub.model.Internship;
 import com.internhub.model.InternshipStatus;
 import com.internhub.model.User;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Repository for Internship entity. Extends JpaSpecificationExecutor for
  * dynamic, multi-criteria search. Follows ISP - provides only necessary query
@@ -22,6 +30,138 @@ import com.internhub.model.User;
 public interface InternshipRepository extends JpaRepository<Internship, Long>,
         JpaSpecificationExecutor<Internship> {
 
+    /**
+     * Load an internship and lock its row (SELECT ... FOR UPDATE) until the
+     * transaction ends. Used to serialize document version allocation.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Internship i WHERE i.id = :id")
+    Optional<Internship> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Sector of an internship, without loading the entity.
+     */
+    @Query("SELECT i.sector.id FROM Internship i WHERE i.id = :id")
+    Optional<Long> findSectorIdById(@Param("id") Long id);
+
+    /**
+     * Assign an instructor to an unclaimed internship in one conditional
+     * UPDATE. The row lock taken by the UPDATE serializes concurrent claims:
+     * the first one sets instructor_id, the others re-check the WHERE clause
+     * after it commits and match no row. Returns the number of rows updated
+     * (1 = claimed, 0 = already claimed, not pending or not found).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Internship i SET i.instructor = :instructor, i.updatedAt = :now, i.version = i.version + 1 "
+            + "WHERE i.id = :id AND i.instructor IS NULL AND i.status = :status")
+    int claimIfUnassigned(
+            @Param("id") Long id,
+            @Param("instructor") User instructor,
+            @Param("status") InternshipStatus status,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Assign an unclaimed internship to an instructor if that instructor holds
+     * fewer than maxOpen internships in the given status. Same conditional
+     * UPDATE as {@link #claimIfUnassigned}, so automatic assignment and manual
+     * claims on any node cannot both win. The count only holds the cap if the
+     * caller locked the instructor row first (UserRepository.lockById): two
+     * assignments to the same instructor would otherwise both see cap - 1.
+     * Returns the number of rows updated.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Internship i SET i.instructor = :instructor, i.updatedAt = :now, i.version = i.version + 1 "
+            + "WHERE i.id = :id AND i.instructor IS NULL AND i.status = :status "
+            + "AND (SELECT COUNT(o) FROM Internship o WHERE o.instructor = :instructor AND o.status = :status) < :maxOpen")
+    int assignIfUnassigned(
+            @Param("id") Long id,
+            @Param("instructor") User instructor,
+            @Param("status") InternshipStatus status,
+            @Param("maxOpen") long maxOpen,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Take an internship back from an instructor, if it is still theirs and in
+     * the given status. Returns the number of rows updated.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Internship i SET i.instructor = NULL, i.updatedAt = :now, i.version = i.version + 1 "
+            + "WHERE i.id = :id AND i.instructor.id = :instructorId AND i.status = :status")
+    int releaseAssignment(
+            @Param("id") Long id,
+            @Param("instructorId") Long instructorId,
+            @Param("status") InternshipStatus status,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Whether an internship is still unassigned in the given status.
+     */
+    boolean existsByIdAndStatusAndInstructorIsNull(Long id, InternshipStatus status);
+
+    /**
+     * Number of internships per instructor in a status, as (instructor id,
+     * count) rows.
+     */
+    @Query("SELECT i.instructor.id, COUNT(i) FROM Internship i "
+            + "WHERE i.instructor IS NOT NULL AND i.status = :status GROUP BY i.instructor.id")
+    List<Object[]> countPerInstructorByStatus(@Param("status") InternshipStatus status);
+
+    /**
+     * Unassigned internships in a status as (id, sector id) rows, oldest
+     * submission first.
+     */
+    @Query("SELECT i.id, i.sector.id FROM Internship i WHERE i.status = :status AND i.instructor IS NULL "
+            + "ORDER BY i.submittedAt, i.id")
+    List<Object[]> findUnassignedIdsAndSectors(@Param("status") InternshipStatus status, Pageable pageable);
+
+    /**
+     * Internships of an instructor in a status as (id, sector id) rows.
+     */
+    @Query("SELECT i.id, i.sector.id FROM Internship i WHERE i.instructor.id = :instructorId AND i.status = :status")
+    List<Object[]> findIdsAndSectorsByInstructorAndStatus(
+            @Param("instructorId") Long instructorId,
+            @Param("status") InternshipStatus status
+    );
+
+    /**
+     * Lock up to :limit VALIDATED internships whose start date has been
+     * reached, skipping rows locked by another node running the same job.
+     */
+    @Query(value = "SELECT id FROM internships WHERE status = 'VALIDATED' AND start_date <= :date "
+            + "ORDER BY start_date, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueToStart(@Param("date") LocalDate date, @Param("limit") int limit);
+
+    /**
+     * Lock up to :limit IN_PROGRESS internships whose end date has passed,
+     * skipping rows locked by another node running the same job.
+     */
+    @Query(value = "SELECT id FROM internships WHERE status = 'IN_PROGRESS' AND end_date < :date "
+            + "ORDER BY end_date, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockDueToComplete(@Param("date") LocalDate date, @Param("limit") int limit);
+
+    /**
+     * Move a set of internships from one status to another. Rows no longer in
+     * the expected status are left alone. Returns the number of rows updated.
+     */
+    @Modifying
+    @Query("UPDATE Internship i SET i.status = :to, i.updatedAt = :now, i.version = i.version + 1 "
+            + "WHERE i.id IN :ids AND i.status = :from")
+    int transitionStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("from") InternshipStatus from,
+            @Param("to") InternshipStatus to,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Load internships with their student and instructor, for notifications.
+     */
+    @Query("SELECT i FROM Internship i JOIN FETCH i.student LEFT JOIN FETCH i.instructor WHERE i.id IN :ids")
+    List<Internship> findWithParticipantsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Find all internships for a specific student.
      */
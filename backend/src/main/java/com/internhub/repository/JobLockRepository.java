@@ -0,0 +1,77 @@
+package com.internhub.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.internhub.model.JobLock;
+
+/**
+ * Repository for job leases. Every statement compares against the database
+ * clock (now()), so clock skew between nodes cannot shorten or stretch a
+ * lease.
+ */
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /**
+     * Take the lease if nobody holds it or the holder's lease expired, with a
+     * fencing token one above the previous holder's. Taking over an expired
+     * lease also needs the job's fence lock, so it fails while the previous
+     * holder is inside a fenced transaction (see {@link #lockFenceShared}).
+     * Returns 1 if taken, 0 if another node holds it.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_locks (name, owner, fencing_token, locked_at, locked_until) "
+            + "VALUES (:name, :owner, 1, now(), now() + make_interval(secs => CAST(:seconds AS double precision))) "
+            + "ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, "
+            + "fencing_token = job_locks.fencing_token + 1, "
+            + "locked_at = EXCLUDED.locked_at, locked_until = EXCLUDED.locked_until "
+            + "WHERE job_locks.locked_until <= now() "
+            + "AND pg_try_advisory_xact_lock(hashtextextended('job_locks:' || :name, 0))", nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("seconds") double seconds);
+
+    @Query("SELECT l.fencingToken FROM JobLock l WHERE l.name = :name AND l.owner = :owner")
+    Optional<Long> findFencingToken(@Param("name") String name, @Param("owner") String owner);
+
+    /**
+     * Extend a lease that is still held under the given token.
+     */
+    @Modifying
+    @Query(value = "UPDATE job_locks SET locked_until = now() + make_interval(secs => CAST(:seconds AS double precision)) "
+            + "WHERE name = :name AND fencing_token = :token AND locked_until > now()", nativeQuery = true)
+    int renew(@Param("name") String name, @Param("token") long token, @Param("seconds") double seconds);
+
+    /**
+     * End a lease, but not before minHold seconds after it was acquired (so a
+     * job that finished quickly is not picked up again by the next node to
+     * tick). The row and its token stay.
+     */
+    @Modifying
+    @Query(value = "UPDATE job_locks SET locked_until = "
+            + "GREATEST(now(), locked_at + make_interval(secs => CAST(:minHold AS double precision))) "
+            + "WHERE name = :name AND fencing_token = :token AND locked_until > now()", nativeQuery = true)
+    int release(@Param("name") String name, @Param("token") long token, @Param("minHold") double minHold);
+
+    /**
+     * Share the fence lock of a job until the calling transaction ends: no
+     * node can take the lease over meanwhile, but renewals (which only update
+     * the lease row) go through. A transaction-scoped advisory lock, not a
+     * row lock, for that reason.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock_shared(hashtextextended('job_locks:' || :name, 0))",
+            nativeQuery = true)
+    Integer lockFenceShared(@Param("name") String name);
+
+    /**
+     * The fencing token of a lease if it is still held under that token.
+     */
+    @Query(value = "SELECT fencing_token FROM job_locks "
+            + "WHERE name = :name AND fencing_token = :token AND locked_until > now()", nativeQuery = true)
+    List<Long> findIfHeld(@Param("name") String name, @Param("token") long token);
+}
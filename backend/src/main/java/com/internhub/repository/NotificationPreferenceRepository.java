@@ -1,5 +1,6 @@
 package com.internhub.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,5 +17,8 @@ public interface NotificationPreferenceRepository extends JpaRepository<Notifica
 
     Optional<NotificationPreference> findByUserIdAndNotificationType(Long userId, NotificationType notificationType);
 
+    List<NotificationPreference> findByUserIdInAndNotificationType(Collection<Long> userIds,
+            NotificationType notificationType);
+
     void deleteByUserIdAndNotificationType(Long userId, NotificationType notificationType);
 }
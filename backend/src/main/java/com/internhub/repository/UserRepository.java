@@ -4,8 +4,11 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.internhub.dto.InstructorContact;
 import com.internhub.model.Role;
 import com.internhub.model.Sector;
 import com.internhub.model.User;
@@ -19,6 +22,41 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByRoleAndSectorsContaining(Role role, Sector sector);
 
+    /**
+     * Resolve a user id from an e-mail address without loading the entity.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    /**
+     * Lock a user row until the end of the transaction, to serialize work
+     * done on behalf of that user across nodes. FOR NO KEY UPDATE, so inserts
+     * referencing the user (foreign key checks) are not blocked.
+     */
+    @Query(value = "SELECT id FROM users WHERE id = :id FOR NO KEY UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    /**
+     * Contact details of a user without loading the entity.
+     */
+    @Query("SELECT new com.internhub.dto.InstructorContact(u.id, u.email, u.firstName, u.lastName) "
+            + "FROM User u WHERE u.id = :id")
+    Optional<InstructorContact> findContactById(@Param("id") Long id);
+
+    /**
+     * All (user id, sector id) pairs of the users with a role, for the sector
+     * routing table.
+     */
+    @Query("SELECT u.id, s.id FROM User u JOIN u.sectors s WHERE u.role = :role")
+    List<Object[]> findSectorAssignmentsByRole(@Param("role") Role role);
+
+    /**
+     * Whether a user is assigned to a sector, read from instructor_sectors
+     * (authoritative check for the instructor write paths).
+     */
+    @Query("SELECT COUNT(s) > 0 FROM User u JOIN u.sectors s WHERE u.id = :userId AND s.id = :sectorId")
+    boolean hasSector(@Param("userId") Long userId, @Param("sectorId") Long sectorId);
+
     Optional<User> findByActivationToken(String activationToken);
 
     /**
@@ -3,7 +3,11 @@ package com.internhub.repository;
 import com.internhub.model.VerificationToken;
 import com.internhub.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +18,8 @@ public interface VerificationTokenRepository extends JpaRepository<VerificationT
     Optional<VerificationToken> findByUserAndType(User user, String type);
 
     void deleteByUser(User user);
+
+    @Modifying
+    @Query("DELETE FROM VerificationToken t WHERE t.expiryDate < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,24 @@
+package com.internhub.scan;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Content scanner run on every uploaded document before it can be downloaded
+ * (antivirus engine, content policy check, ...).
+ *
+ * Called from the scan workers of
+ * {@link com.internhub.service.DocumentScanService}, never on the upload
+ * request thread, so implementations may block (e.g. on a remote daemon).
+ * Throwing leaves the document pending and the scan is retried later.
+ */
+public interface DocumentScanner {
+
+    /**
+     * Scan the full content of a document.
+     *
+     * @param content     the content, read to the end or not; closed by the caller
+     * @param contentType the declared (and sniffed) content type
+     */
+    ScanResult scan(InputStream content, String contentType) throws IOException;
+}
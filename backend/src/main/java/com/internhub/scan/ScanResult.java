@@ -0,0 +1,16 @@
+package com.internhub.scan;
+
+/**
+ * Verdict of a {@link DocumentScanner}; detail names the threat or rule that
+ * matched, null when clean.
+ */
+public record ScanResult(boolean clean, String detail) {
+
+    public static ScanResult passed() {
+        return new ScanResult(true, null);
+    }
+
+    public static ScanResult infected(String detail) {
+        return new ScanResult(false, detail);
+    }
+}
@@ -0,0 +1,48 @@
+package com.internhub.scan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Local stand-in scanner used when no real engine is configured. Streams the
+ * content once looking for the EICAR anti-virus test signature, so the
+ * quarantine path can be exercised end to end without an external service.
+ */
+public class SignatureDocumentScanner implements DocumentScanner {
+
+    private static final byte[] EICAR = ("X5O!P%@AP[4\\PZX54(P^)7CC)7}$EICAR-STANDARD-ANTIVIRUS-TEST-FILE!$H+H*")
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Override
+    public ScanResult scan(InputStream content, String contentType) throws IOException {
+        // Naive search with an overlap of signature length - 1 between reads
+        byte[] buffer = new byte[BUFFER_SIZE + EICAR.length];
+        int carried = 0;
+        int n;
+        while ((n = content.read(buffer, carried, BUFFER_SIZE)) > 0) {
+            int length = carried + n;
+            if (indexOf(buffer, length, EICAR) >= 0) {
+                return ScanResult.infected("EICAR-Test-File");
+            }
+            carried = Math.min(EICAR.length - 1, length);
+            System.arraycopy(buffer, length - carried, buffer, 0, carried);
+        }
+        return ScanResult.passed();
+    }
+
+    private static int indexOf(byte[] data, int length, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -28,12 +28,15 @@ public class ActivityLogService {
 
     private final ActivityLogRepository activityLogRepository;
     private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
 
     @Autowired
     public ActivityLogService(ActivityLogRepository activityLogRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            UserLookupService userLookupService) {
         this.activityLogRepository = activityLogRepository;
         this.userRepository = userRepository;
+        this.userLookupService = userLookupService;
     }
 
     /**
@@ -41,8 +44,8 @@ public class ActivityLogService {
      */
     @Transactional
     public ActivityLog logActivity(String userEmail, String actionType, String description) {
-        User user = userRepository.findByEmail(userEmail).orElse(null);
-        ActivityLog log = new ActivityLog(user, actionType, description);
+        ActivityLog log = new ActivityLog(findUserReference(userEmail), userEmail, actionType,
+                null, null, description);
         enrichWithRequestInfo(log);
         return activityLogRepository.save(log);
     }
@@ -53,8 +56,8 @@ public class ActivityLogService {
     @Transactional
     public ActivityLog logActivity(String userEmail, String actionType, String entityType,
             Long entityId, String description) {
-        User user = userRepository.findByEmail(userEmail).orElse(null);
-        ActivityLog log = new ActivityLog(user, actionType, entityType, entityId, description);
+        ActivityLog log = new ActivityLog(findUserReference(userEmail), userEmail, actionType,
+                entityType, entityId, description);
         enrichWithRequestInfo(log);
         return activityLogRepository.save(log);
     }
@@ -66,14 +69,23 @@ public class ActivityLogService {
     public ActivityLog logActivityWithValues(String userEmail, String actionType, String entityType,
             Long entityId, String description,
             String oldValue, String newValue) {
-        User user = userRepository.findByEmail(userEmail).orElse(null);
-        ActivityLog log = new ActivityLog(user, actionType, entityType, entityId, description);
+        ActivityLog log = new ActivityLog(findUserReference(userEmail), userEmail, actionType,
+                entityType, entityId, description);
         log.setOldValue(oldValue);
         log.setNewValue(newValue);
         enrichWithRequestInfo(log);
         return activityLogRepository.save(log);
     }
 
+    /**
+     * Save many log entries at once (batched inserts), e.g. from a scheduled
+     * job. Entries without a user are recorded as "system".
+     */
+    @Transactional
+    public List<ActivityLog> logActivities(List<ActivityLog> logs) {
+        return activityLogRepository.saveAll(logs);
+    }
+
     /**
      * Get all activity logs with pagination.
      */
@@ -89,7 +101,7 @@ public class ActivityLogService {
      */
     @Transactional(readOnly = true)
     public Page<ActivityLogDTO> getLogsByUser(String userEmail, int page, int size) {
-        User user = userRepository.findByEmail(userEmail).orElse(null);
+        User user = findUserReference(userEmail);
         if (user == null) {
             return Page.empty();
         }
@@ -163,9 +175,19 @@ public class ActivityLogService {
      * Delete old logs (data retention).
      */
     @Transactional
-    public void deleteOldLogs(int daysToKeep) {
+    public int deleteOldLogs(int daysToKeep) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysToKeep);
-        activityLogRepository.deleteOldLogs(cutoffDate);
+        return activityLogRepository.deleteOldLogs(cutoffDate);
+    }
+
+    /**
+     * Resolve a user through the cached e-mail lookup and return an
+     * uninitialized reference, so logging does not query the users table.
+     */
+    private User findUserReference(String userEmail) {
+        return userLookupService.findUserIdByEmail(userEmail)
+                .map(userRepository::getReferenceById)
+                .orElse(null);
     }
 
     /**
@@ -243,6 +265,8 @@ public class ActivityLogService {
     public static final String ACTION_INTERNSHIP_CLAIM = "INTERNSHIP_CLAIM";
     public static final String ACTION_INTERNSHIP_VALIDATE = "INTERNSHIP_VALIDATE";
     public static final String ACTION_INTERNSHIP_REFUSE = "INTERNSHIP_REFUSE";
+    public static final String ACTION_INTERNSHIP_START = "INTERNSHIP_START";
+    public static final String ACTION_INTERNSHIP_COMPLETE = "INTERNSHIP_COMPLETE";
     public static final String ACTION_COMMENT_ADD = "COMMENT_ADD";
     public static final String ACTION_COMMENT_UPDATE = "COMMENT_UPDATE";
     public static final String ACTION_COMMENT_DELETE = "COMMENT_DELETE";
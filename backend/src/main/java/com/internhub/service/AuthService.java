@@ -38,6 +38,7 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
     private final ActivityLogService activityLogService;
+    private final UserLookupService userLookupService;
 
     public AuthService(
             UserRepository userRepository,
@@ -47,7 +48,8 @@ public class AuthService {
             TwoFactorAuthService twoFactorAuthService,
             JwtTokenProvider jwtTokenProvider,
             AuthenticationManager authenticationManager,
-            ActivityLogService activityLogService) {
+            ActivityLogService activityLogService,
+            UserLookupService userLookupService) {
         this.userRepository = userRepository;
         this.tokenRepository = tokenRepository;
         this.passwordEncoder = passwordEncoder;
@@ -56,6 +58,7 @@ public class AuthService {
         this.jwtTokenProvider = jwtTokenProvider;
         this.authenticationManager = authenticationManager;
         this.activityLogService = activityLogService;
+        this.userLookupService = userLookupService;
     }
 
     @Transactional
@@ -289,6 +292,12 @@ public class AuthService {
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
 
+        // E-mail and display name feed cached lookups
+        userLookupService.evictUserEmail(currentEmail);
+        if (user.getRole() == Role.INSTRUCTOR) {
+            userLookupService.evictInstructorContact(user.getId());
+        }
+
         return new AuthResponse(null, user.getEmail(), user.getFirstName(),
                 user.getLastName(), user.getRole().name(), user.isTwoFactorEnabled(), null, user.getId());
     }
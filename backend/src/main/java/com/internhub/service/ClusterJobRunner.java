@@ -0,0 +1,105 @@
+package com.internhub.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+
+import com.internhub.service.JobLockService.JobLease;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a job on one node of the cluster. Every node calls
+ * {@link #runExclusive} from its own @Scheduled trigger; the node that gets
+ * the job's lease runs it, the others skip this round. While the job runs the
+ * lease is renewed every third of its length, so it only expires (and another
+ * node can take the job over) when the holder died or hangs. Once done, the
+ * lease is kept for the rest of the job's interval, so the nodes that tick
+ * after it do not run the job again in the same round.
+ *
+ * Jobs that write should call {@link JobLockService#checkFence} in their
+ * transaction, so a holder that lost its lease cannot write after the next
+ * one started.
+ */
+@Service
+@Slf4j
+public class ClusterJobRunner {
+
+    private final JobLockService jobLockService;
+    private final ScheduledExecutorService heartbeat;
+
+    public ClusterJobRunner(JobLockService jobLockService) {
+        this.jobLockService = jobLockService;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+    }
+
+    /**
+     * Run the job if this node can take its lease.
+     *
+     * @return false if another node holds the lease
+     */
+    public boolean runExclusive(String jobName, Duration leaseTime, Duration interval, Consumer<JobLease> job) {
+        Optional<JobLease> acquired;
+        try {
+            acquired = jobLockService.tryAcquire(jobName, leaseTime);
+        } catch (RuntimeException e) {
+            log.warn("Could not acquire the lease of job {}: {}", jobName, e.getMessage());
+            return false;
+        }
+        if (acquired.isEmpty()) {
+            log.debug("Job {} is running on another node, skipped", jobName);
+            return false;
+        }
+
+        JobLease lease = acquired.get();
+        long renewEvery = Math.max(1, leaseTime.toMillis() / 3);
+        ScheduledFuture<?> renewal = heartbeat.scheduleAtFixedRate(() -> renew(lease, leaseTime),
+                renewEvery, renewEvery, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            job.accept(lease);
+            succeeded = true;
+            log.debug("Job {} (token {}) finished in {} ms on {}", jobName, lease.fencingToken(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lease.owner());
+        } catch (RuntimeException e) {
+            log.error("Job {} (token {}) failed: {}", jobName, lease.fencingToken(), e.getMessage(), e);
+        } finally {
+            renewal.cancel(false);
+            try {
+                // A failed job may be retried by any node right away
+                jobLockService.release(lease, succeeded ? interval : Duration.ZERO);
+            } catch (RuntimeException e) {
+                // The lease expires on its own
+                log.warn("Could not release the lease of job {}: {}", jobName, e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void renew(JobLease lease, Duration leaseTime) {
+        try {
+            if (!jobLockService.renew(lease, leaseTime)) {
+                log.warn("Lease of job {} (token {}) was lost while running", lease.name(), lease.fencingToken());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not renew the lease of job {}: {}", lease.name(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.internhub.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.internhub.model.Document.DocumentType;
+import com.internhub.model.Internship;
+import com.internhub.model.InternshipReminder;
+import com.internhub.model.InternshipReminder.Kind;
+import com.internhub.model.InternshipReminder.State;
+import com.internhub.model.InternshipStatus;
+import com.internhub.model.Notification;
+import com.internhub.model.User;
+import com.internhub.repository.DocumentRepository;
+import com.internhub.repository.InternshipReminderRepository;
+import com.internhub.repository.InternshipRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DEADLINE_REMINDER notifications for internships nearing their end date
+ * (END_DATE_APPROACHING, to the student) and for those still without a
+ * REPORT document (REPORT_MISSING, to the student and the instructor).
+ *
+ * Two steps around the internship_reminders table:
+ * - planning (every app.reminders.plan-interval) inserts one row per
+ * internship and kind with its fire time, set-based, for the internships
+ * whose end date falls in a short window ahead; the unique key makes it
+ * idempotent, so a reminder is never planned or sent twice;
+ * - dispatch (every app.reminders.dispatch-interval) reads only the due rows,
+ * re-checks that they still apply, sends them through the batched
+ * notification path and marks them SENT or CANCELLED.
+ *
+ * Neither step scans all internships. Planning runs on one node per round
+ * ({@link ClusterJobRunner}); the unique key would make concurrent runs
+ * harmless, but they would repeat the same scan. Dispatch runs on every node
+ * and shares the work: each one locks its chunk with SKIP LOCKED.
+ */
+@Service
+@Slf4j
+public class DeadlineReminderService {
+
+    static final String PLAN_JOB_NAME = "reminder-planning";
+
+    private static final Set<InternshipStatus> ACTIVE = EnumSet.of(InternshipStatus.VALIDATED,
+            InternshipStatus.IN_PROGRESS);
+
+    private final InternshipReminderRepository reminderRepository;
+    private final InternshipRepository internshipRepository;
+    private final DocumentRepository documentRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobRunner jobRunner;
+    private final JobLockService jobLockService;
+    private final boolean enabled;
+    private final Duration planInterval;
+    private final Duration leaseTime;
+    private final int endDateDaysBefore;
+    private final int reportDaysBefore;
+    private final int fireHour;
+    private final int planAheadDays;
+    private final int chunkSize;
+
+    public DeadlineReminderService(InternshipReminderRepository reminderRepository,
+            InternshipRepository internshipRepository,
+            DocumentRepository documentRepository,
+            NotificationService notificationService,
+            TransactionTemplate transactionTemplate,
+            ClusterJobRunner jobRunner,
+            JobLockService jobLockService,
+            @Value("${app.reminders.enabled:true}") boolean enabled,
+            @Value("${app.reminders.plan-interval:PT1H}") Duration planInterval,
+            @Value("${app.jobs.lease-time:PT5M}") Duration leaseTime,
+            @Value("${app.reminders.end-date-days-before:7}") int endDateDaysBefore,
+            @Value("${app.reminders.report-days-before:14}") int reportDaysBefore,
+            @Value("${app.reminders.fire-hour:8}") int fireHour,
+            @Value("${app.reminders.plan-ahead-days:2}") int planAheadDays,
+            @Value("${app.reminders.chunk-size:200}") int chunkSize) {
+        this.reminderRepository = reminderRepository;
+        this.internshipRepository = internshipRepository;
+        this.documentRepository = documentRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = transactionTemplate;
+        this.jobRunner = jobRunner;
+        this.jobLockService = jobLockService;
+        this.enabled = enabled;
+        this.planInterval = planInterval;
+        this.leaseTime = leaseTime;
+        this.endDateDaysBefore = endDateDaysBefore;
+        this.reportDaysBefore = reportDaysBefore;
+        this.fireHour = fireHour;
+        this.planAheadDays = planAheadDays;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Plan the reminders that fire within the next plan-ahead-days. Internships
+     * validated late (fire time already past) get a reminder due at once.
+     */
+    @Scheduled(fixedDelayString = "${app.reminders.plan-interval:PT1H}",
+            initialDelayString = "${app.reminders.initial-delay:PT3M}")
+    public void planReminders() {
+        if (!enabled) {
+            return;
+        }
+        jobRunner.runExclusive(PLAN_JOB_NAME, leaseTime, planInterval, lease -> {
+            LocalDate today = LocalDate.now();
+            Integer planned = transactionTemplate.execute(status -> {
+                jobLockService.checkFence(lease);
+                return reminderRepository.planEndDateReminders(today,
+                        today.plusDays(endDateDaysBefore + planAheadDays), endDateDaysBefore, fireHour)
+                        + reminderRepository.planReportReminders(today,
+                                today.plusDays(reportDaysBefore + planAheadDays), reportDaysBefore, fireHour);
+            });
+            if (planned != null && planned > 0) {
+                log.info("Planned {} deadline reminders", planned);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.dispatch-interval:PT5M}",
+            initialDelayString = "${app.reminders.initial-delay:PT3M}")
+    public void dispatchDueReminders() {
+        if (!enabled) {
+            return;
+        }
+        int total = 0;
+        while (true) {
+            Integer processed;
+            try {
+                processed = transactionTemplate.execute(status -> dispatchChunk());
+            } catch (RuntimeException e) {
+                log.warn("Deadline reminder dispatch failed, will retry: {}", e.getMessage());
+                break;
+            }
+            if (processed == null || processed == 0) {
+                break;
+            }
+            total += processed;
+            if (processed < chunkSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Processed {} deadline reminders", total);
+        }
+    }
+
+    private int dispatchChunk() {
+        LocalDateTime now = LocalDateTime.now();
+        List<InternshipReminder> due = reminderRepository.lockDueReminders(now, chunkSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> internshipIds = due.stream()
+                .map(reminder -> reminder.getInternship().getId())
+                .collect(Collectors.toSet());
+        Map<Long, Internship> internships = internshipRepository.findWithParticipantsByIdIn(internshipIds)
+                .stream()
+                .collect(Collectors.toMap(Internship::getId, Function.identity()));
+        Set<Long> withReport = due.stream().anyMatch(reminder -> reminder.getKind() == Kind.REPORT_MISSING)
+                ? new HashSet<>(documentRepository.findInternshipIdsWithLatestDocument(internshipIds,
+                        DocumentType.REPORT))
+                : Set.of();
+
+        List<Notification> notifications = new ArrayList<>();
+        List<Long> sent = new ArrayList<>();
+        List<Long> cancelled = new ArrayList<>();
+        for (InternshipReminder reminder : due) {
+            Internship internship = internships.get(reminder.getInternship().getId());
+            boolean applies = internship != null && ACTIVE.contains(internship.getStatus())
+                    && !(reminder.getKind() == Kind.REPORT_MISSING && withReport.contains(internship.getId()));
+            if (applies) {
+                addNotifications(notifications, reminder.getKind(), internship);
+                sent.add(reminder.getId());
+            } else {
+                cancelled.add(reminder.getId());
+            }
+        }
+
+        notificationService.createNotifications(notifications);
+        if (!sent.isEmpty()) {
+            reminderRepository.markProcessed(sent, State.SENT, now);
+        }
+        if (!cancelled.isEmpty()) {
+            reminderRepository.markProcessed(cancelled, State.CANCELLED, now);
+        }
+        return due.size();
+    }
+
+    private static void addNotifications(List<Notification> notifications, Kind kind, Internship internship) {
+        User student = internship.getStudent();
+        if (kind == Kind.END_DATE_APPROACHING) {
+            notifications.add(new Notification(student, "DEADLINE", "Internship Ending Soon",
+                    String.format("Your internship '%s' at %s ends on %s", internship.getTitle(),
+                            internship.getCompanyName(), internship.getEndDate()),
+                    "INTERNSHIP", internship.getId()));
+            return;
+        }
+
+        notifications.add(new Notification(student, "DEADLINE", "Internship Report Due",
+                String.format("No report has been uploaded yet for your internship '%s', which ends on %s",
+                        internship.getTitle(), internship.getEndDate()),
+                "INTERNSHIP", internship.getId()));
+        if (internship.getInstructor() != null) {
+            notifications.add(new Notification(internship.getInstructor(), "DEADLINE", "Internship Report Due",
+                    String.format("No report has been uploaded yet for the internship '%s' of %s %s, which ends on %s",
+                            internship.getTitle(), student.getFirstName(), student.getLastName(),
+                            internship.getEndDate()),
+                    "INTERNSHIP", internship.getId()));
+        }
+    }
+}
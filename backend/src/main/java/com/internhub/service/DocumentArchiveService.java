@@ -0,0 +1,183 @@
+package com.internhub.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import com.internhub.model.Document;
+import com.internhub.model.Internship;
+import com.internhub.model.User;
+import com.internhub.repository.DocumentRepository;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams the latest documents of an internship, a sector or an upload-date
+ * range as a ZIP archive.
+ *
+ * The archive is written on the fly to the response: documents are read one
+ * after the other straight into their entry, with no temporary file. The
+ * document list is loaded first, so the number of entries and their total
+ * (uncompressed) size are sent as headers for progress reporting; the exact
+ * archive length is not known in advance and the body is chunked. Documents
+ * whose content cannot be opened or has not passed its scan are left out and
+ * listed in MISSING.txt.
+ */
+@Service
+@Slf4j
+public class DocumentArchiveService {
+
+    public static final String ENTRY_COUNT_HEADER = "X-Archive-Entries";
+    public static final String TOTAL_SIZE_HEADER = "X-Archive-Total-Size";
+
+    /**
+     * Entry listing documents left out (content missing or not scanned clean).
+     */
+    private static final String MISSING_ENTRY = "MISSING.txt";
+
+    private final DocumentRepository documentRepository;
+    private final DocumentDownloadService documentDownloadService;
+
+    public DocumentArchiveService(DocumentRepository documentRepository,
+            DocumentDownloadService documentDownloadService) {
+        this.documentRepository = documentRepository;
+        this.documentDownloadService = documentDownloadService;
+    }
+
+    /**
+     * Write the archive for the given filters (at least one is required;
+     * the date range is inclusive).
+     *
+     * @param instructorId if set, only internships this instructor is assigned
+     *        to or whose sector they cover; null for admins
+     * @return false, with nothing written, if no document matches
+     */
+    public boolean streamArchive(Long internshipId, Long sectorId, LocalDate uploadedFrom, LocalDate uploadedTo,
+            Long instructorId, HttpServletResponse response) throws IOException {
+        if (internshipId == null && sectorId == null && uploadedFrom == null && uploadedTo == null) {
+            throw new IllegalArgumentException("At least one of internshipId, sectorId, from or to is required");
+        }
+        if (uploadedFrom != null && uploadedTo != null && uploadedTo.isBefore(uploadedFrom)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+
+        List<Document> documents = documentRepository.findLatestForArchive(internshipId, sectorId,
+                uploadedFrom != null ? uploadedFrom.atStartOfDay() : null,
+                uploadedTo != null ? uploadedTo.plusDays(1).atStartOfDay() : null, instructorId);
+        if (documents.isEmpty()) {
+            return false;
+        }
+
+        long totalSize = documents.stream().mapToLong(Document::getFileSize).sum();
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(archiveName(internshipId, sectorId, uploadedFrom, uploadedTo))
+                .build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setHeader(ENTRY_COUNT_HEADER, String.valueOf(documents.size()));
+        response.setHeader(TOTAL_SIZE_HEADER, String.valueOf(totalSize));
+
+        long start = System.currentTimeMillis();
+        Set<String> entryNames = new HashSet<>();
+        ZipOutputStream zip = new ZipOutputStream(response.getOutputStream(), StandardCharsets.UTF_8);
+        // Most documents (PDF, images, Office Open XML) are already
+        // compressed: favour throughput over ratio
+        zip.setLevel(Deflater.BEST_SPEED);
+        List<String> missing = new ArrayList<>();
+        for (Document document : documents) {
+            String entryName = uniqueEntryName(document, entryNames);
+            if (!document.isScanClean()) {
+                missing.add(entryName + " (content scan " + document.getScanStatus().name().toLowerCase(Locale.ROOT) + ")");
+                continue;
+            }
+            InputStream content;
+            try {
+                content = documentDownloadService.openContent(document);
+            } catch (IOException e) {
+                // Skip it rather than truncate an archive already under way
+                log.warn("Document {} left out of archive: {}", document.getId(), e.getMessage());
+                missing.add(entryName + " (content unavailable)");
+                continue;
+            }
+            try (content) {
+                ZipEntry entry = new ZipEntry(entryName);
+                if (document.getCreatedAt() != null) {
+                    entry.setTime(document.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                }
+                zip.putNextEntry(entry);
+                content.transferTo(zip);
+                zip.closeEntry();
+            }
+        }
+        if (!missing.isEmpty()) {
+            zip.putNextEntry(new ZipEntry(MISSING_ENTRY));
+            zip.write(("Documents left out of this archive:\n" + String.join("\n", missing) + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        zip.finish();
+
+        log.info("Streamed archive of {} documents ({} bytes) in {} ms",
+                documents.size(), totalSize, System.currentTimeMillis() - start);
+        return true;
+    }
+
+    /**
+     * "internshipId_Lastname_Firstname/originalFileName", with a counter
+     * added to repeated names.
+     */
+    private static String uniqueEntryName(Document document, Set<String> used) {
+        Internship internship = document.getInternship();
+        User student = internship.getStudent();
+        String folder = sanitize(internship.getId() + "_" + student.getLastName() + "_" + student.getFirstName());
+        String fileName = sanitize(document.getOriginalFileName());
+
+        String name = folder + "/" + fileName;
+        int counter = 2;
+        while (!used.add(name)) {
+            int dot = fileName.lastIndexOf('.');
+            String numbered = dot > 0
+                    ? fileName.substring(0, dot) + " (" + counter + ")" + fileName.substring(dot)
+                    : fileName + " (" + counter + ")";
+            name = folder + "/" + numbered;
+            counter++;
+        }
+        return name;
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_");
+    }
+
+    private static String archiveName(Long internshipId, Long sectorId, LocalDate from, LocalDate to) {
+        StringBuilder name = new StringBuilder("documents");
+        if (internshipId != null) {
+            name.append("-internship-").append(internshipId);
+        }
+        if (sectorId != null) {
+            name.append("-sector-").append(sectorId);
+        }
+        if (from != null) {
+            name.append("-from-").append(from);
+        }
+        if (to != null) {
+            name.append("-to-").append(to);
+        }
+        return name.append(".zip").toString();
+    }
+}
@@ -0,0 +1,183 @@
+package com.internhub.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.internhub.model.DocumentBlob;
+import com.internhub.repository.DocumentBlobRepository;
+import com.internhub.storage.DocumentStorage;
+import com.internhub.storage.StagedBlob;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Content-addressed, reference-counted file store for documents. Each distinct
+ * content is written once under its SHA-256 in the configured
+ * {@link DocumentStorage}; re-uploads of identical files only take another
+ * reference on the existing blob.
+ *
+ * Uploads are staged and hashed first, outside any transaction, then
+ * published. Publishing and releasing must run inside the caller's
+ * transaction: the blob row is locked by the reference-count statement until
+ * commit, which serializes a concurrent upload and release of the same
+ * content. The files of a released blob are only deleted once the release
+ * has committed, under the content lock publishing also takes, and not at all
+ * if the content was uploaded again meanwhile.
+ */
+@Service
+@Slf4j
+public class DocumentBlobService {
+
+    private final DocumentBlobRepository blobRepository;
+    private final DocumentStorage documentStorage;
+    private final DocumentPreviewService documentPreviewService;
+    private final TransactionTemplate transactionTemplate;
+
+    public DocumentBlobService(DocumentBlobRepository blobRepository, DocumentStorage documentStorage,
+            DocumentPreviewService documentPreviewService, PlatformTransactionManager transactionManager) {
+        this.blobRepository = blobRepository;
+        this.documentStorage = documentStorage;
+        this.documentPreviewService = documentPreviewService;
+        // File deletion runs after commit, where REQUIRED would join the
+        // transaction that just committed
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Write the content to the storage staging area while hashing it, in one
+     * pass over the input. Does not touch the database, so callers can read a
+     * slow upload before opening a transaction.
+     */
+    public StagedContent stage(InputStream content) throws IOException {
+        MessageDigest digest = newContentDigest();
+        StagedBlob staged = documentStorage.stage(new DigestInputStream(content, digest));
+        return new StagedContent(staged, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Take a reference on the blob for staged content, publishing the staged
+     * copy if the blob does not exist yet. Staged content that is not needed
+     * is left for {@link #discard}.
+     */
+    @Transactional
+    public StoredBlob publish(StagedContent content) throws IOException {
+        String hash = content.contentHash();
+        String location = documentStorage.location(hash);
+        long size = content.staged().size();
+
+        // Wait for the file deletion of a just released blob of this content
+        blobRepository.lockContent(hash);
+        Long blobId = blobRepository.acquire(hash, location, size);
+        DocumentBlob blob = blobRepository.findById(blobId)
+                .orElseThrow(() -> new IllegalStateException("Blob row vanished: " + blobId));
+
+        // The row is locked now, so a concurrent release or compaction cannot
+        // change the blob between this check and commit. Re-publishing a
+        // missing blob also heals rows whose content was lost.
+        if (!documentStorage.exists(blob.storageKey())) {
+            if (!documentStorage.exists(hash)) {
+                documentStorage.commit(content.staged(), hash);
+            }
+            blob.setCompression(null);
+            blob.setStoredSize(null);
+            blob.setStoragePath(location);
+        }
+
+        return new StoredBlob(blob, hash, location, size);
+    }
+
+    /**
+     * Drop staged content. Safe to call after {@link #publish}, whether or not
+     * the staged copy was used.
+     */
+    public void discard(StagedContent content) {
+        documentStorage.discard(content.staged());
+    }
+
+    /**
+     * Drop one reference to a blob and delete it when no document references
+     * it any more: the row now, the files once the transaction committed.
+     * Documents pointing at the blob must have been deleted and flushed first.
+     */
+    @Transactional
+    public void release(DocumentBlob blob) {
+        String contentHash = blob.getContentHash();
+        blobRepository.decrementRefCount(blob.getId());
+        if (blobRepository.deleteIfUnreferenced(blob.getId()) > 0) {
+            afterCommit(() -> deleteFiles(contentHash));
+        }
+    }
+
+    private void deleteFiles(String contentHash) {
+        transactionTemplate.executeWithoutResult(status -> {
+            blobRepository.lockContent(contentHash);
+            if (blobRepository.findByContentHash(contentHash).isPresent()) {
+                // Uploaded again since the release
+                return;
+            }
+            // Delete every encoding: the compression seen at release may be stale
+            for (DocumentBlob.Compression compression : DocumentBlob.Compression.values()) {
+                try {
+                    documentStorage.delete(compression.key(contentHash));
+                } catch (IOException e) {
+                    log.error("Failed to delete blob: {}", compression.key(contentHash), e);
+                }
+            }
+            documentPreviewService.deletePreviews(contentHash);
+            log.info("Blob {} has no references left, deleted", contentHash);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    log.warn("Blob file deletion failed: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    private static MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Staged upload and the SHA-256 of its content.
+     */
+    public record StagedContent(StagedBlob staged, String contentHash) {
+
+    }
+
+    /**
+     * Result of {@link #publish}: a reference to the blob row plus the values a
+     * document copies from it (storagePath is the backend location).
+     */
+    public record StoredBlob(DocumentBlob blob, String contentHash, String storagePath, long size) {
+
+    }
+}
@@ -0,0 +1,288 @@
+package com.internhub.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.internhub.dto.CompactionStatsResponse;
+import com.internhub.model.DocumentBlob;
+import com.internhub.model.DocumentBlob.Compression;
+import com.internhub.model.InternshipStatus;
+import com.internhub.repository.DocumentBlobRepository;
+import com.internhub.service.JobLockService.JobLease;
+import com.internhub.storage.DocumentStorage;
+import com.internhub.storage.StagedBlob;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background compression of cold document blobs.
+ *
+ * A blob is cold when none of its documents is the latest version of a file
+ * on an internship that is not COMPLETED. Cold blobs of compressible types are
+ * gzipped into a second storage key ("hash.gz"); the blob row is switched to
+ * the compressed copy and the original is deleted. Blobs that do not shrink
+ * by at least min-savings are marked {@link Compression#NONE} and kept as
+ * they are. Downloads inflate compressed blobs while streaming.
+ *
+ * Each blob is compressed outside any transaction into the storage staging
+ * area. Only the final switch is a short transaction: under the content lock
+ * (see {@link DocumentBlobRepository#lockContent}) the staged copy is
+ * published as "hash.gz" and the row updated, unless the blob was released or
+ * compacted meanwhile, in which case only the staged copy is dropped.
+ *
+ * The original is kept for original-grace after the switch: a download that
+ * resolved the blob just before it (on any node) may still be reading it. A
+ * later run deletes it.
+ * The sweep runs on one node at a time ({@link ClusterJobRunner}).
+ */
+@Service
+@Slf4j
+public class DocumentCompactionService {
+
+    /**
+     * Content types worth compressing (PNG, JPEG and Office Open XML files
+     * are already compressed).
+     */
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "application/pdf",
+            "application/msword",
+            "application/vnd.ms-excel",
+            "text/plain");
+
+    static final String JOB_NAME = "blob-compaction";
+
+    private final DocumentBlobRepository blobRepository;
+    private final DocumentStorage documentStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobRunner jobRunner;
+    private final JobLockService jobLockService;
+    private final boolean enabled;
+    private final Duration interval;
+    private final Duration leaseTime;
+    private final Duration originalGrace;
+    private final int batchSize;
+    private final double minSavings;
+    private final int level;
+
+    public DocumentCompactionService(DocumentBlobRepository blobRepository,
+            DocumentStorage documentStorage,
+            TransactionTemplate transactionTemplate,
+            ClusterJobRunner jobRunner,
+            JobLockService jobLockService,
+            @Value("${app.compaction.enabled:true}") boolean enabled,
+            @Value("${app.compaction.interval:PT6H}") Duration interval,
+            @Value("${app.jobs.lease-time:PT5M}") Duration leaseTime,
+            @Value("${app.compaction.original-grace:PT1H}") Duration originalGrace,
+            @Value("${app.compaction.batch-size:50}") int batchSize,
+            @Value("${app.compaction.min-savings:0.1}") double minSavings,
+            @Value("${app.compaction.level:6}") int level) {
+        this.blobRepository = blobRepository;
+        this.documentStorage = documentStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.jobRunner = jobRunner;
+        this.jobLockService = jobLockService;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.leaseTime = leaseTime;
+        this.originalGrace = originalGrace;
+        this.batchSize = batchSize;
+        this.minSavings = minSavings;
+        this.level = level;
+    }
+
+    /**
+     * Compress every cold blob not considered yet, in batches.
+     */
+    @Scheduled(fixedDelayString = "${app.compaction.interval:PT6H}",
+            initialDelayString = "${app.compaction.initial-delay:PT10M}")
+    public void compactColdBlobs() {
+        if (!enabled) {
+            return;
+        }
+        jobRunner.runExclusive(JOB_NAME, leaseTime, interval, this::compactAll);
+    }
+
+    private void compactAll(JobLease lease) {
+        deleteExpiredOriginals(lease);
+
+        int compacted = 0;
+        long bytesSaved = 0;
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = blobRepository.findCompactionCandidates(afterId, COMPRESSIBLE_TYPES,
+                    InternshipStatus.COMPLETED, PageRequest.of(0, batchSize));
+            for (Long id : ids) {
+                afterId = id;
+                try {
+                    long saved = compact(id, lease);
+                    if (saved > 0) {
+                        compacted++;
+                        bytesSaved += saved;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    // Left uncompressed; retried on the next run
+                    log.warn("Failed to compact blob {}: {}", id, e.getMessage());
+                }
+            }
+        } while (ids.size() == batchSize);
+
+        if (compacted > 0) {
+            log.info("Compacted {} cold blobs, {} bytes saved", compacted, bytesSaved);
+        }
+    }
+
+    /**
+     * Delete the originals of blobs compressed more than original-grace ago.
+     */
+    private void deleteExpiredOriginals(JobLease lease) {
+        int deleted = 0;
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = blobRepository.findOriginalsDueForDeletion(LocalDateTime.now(), afterId,
+                    PageRequest.of(0, batchSize));
+            for (Long id : ids) {
+                afterId = id;
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteOriginal(id, lease)))) {
+                        deleted++;
+                    }
+                } catch (RuntimeException e) {
+                    // Marker kept; retried on the next run
+                    log.warn("Failed to delete the original of blob {}: {}", id, e.getMessage());
+                }
+            }
+        } while (ids.size() == batchSize);
+
+        if (deleted > 0) {
+            log.info("Deleted {} uncompressed originals of compacted blobs", deleted);
+        }
+    }
+
+    public CompactionStatsResponse getStats() {
+        return blobRepository.getCompactionStats(Compression.GZIP);
+    }
+
+    /**
+     * Compress one blob.
+     *
+     * @return bytes saved, 0 if the blob was kept uncompressed
+     */
+    private long compact(Long blobId, JobLease lease) throws IOException {
+        DocumentBlob blob = blobRepository.findById(blobId).orElse(null);
+        if (blob == null || blob.getCompression() != null) {
+            return 0;
+        }
+        String hash = blob.getContentHash();
+        long originalSize = blob.getFileSize();
+
+        Path temp = Files.createTempFile("blob-", ".gz");
+        try {
+            try (InputStream in = documentStorage.get(hash);
+                    OutputStream out = new LevelGzipOutputStream(Files.newOutputStream(temp), level)) {
+                in.transferTo(out);
+            }
+            long storedSize = Files.size(temp);
+
+            if (storedSize > originalSize * (1 - minSavings)) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jobLockService.checkFence(lease);
+                    blobRepository.markCompacted(blobId, Compression.NONE, originalSize, blob.getStoragePath(),
+                            null);
+                });
+                return 0;
+            }
+
+            StagedBlob staged;
+            try (InputStream in = Files.newInputStream(temp)) {
+                staged = documentStorage.stage(in);
+            }
+            try {
+                if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> switchToCompressed(blobId, hash,
+                        staged, lease)))) {
+                    // Released or compacted concurrently
+                    return 0;
+                }
+            } finally {
+                documentStorage.discard(staged);
+            }
+            return originalSize - storedSize;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Publish the staged compressed copy and point the row at it, if the blob
+     * still exists and is uncompressed. The content lock keeps publish and the
+     * file deletion of released blobs out until commit.
+     */
+    private boolean switchToCompressed(Long blobId, String hash, StagedBlob staged, JobLease lease) {
+        jobLockService.checkFence(lease);
+        blobRepository.lockContent(hash);
+        DocumentBlob current = blobRepository.findById(blobId).orElse(null);
+        if (current == null || current.getCompression() != null) {
+            return false;
+        }
+        String key = Compression.GZIP.key(hash);
+        try {
+            documentStorage.commit(staged, key);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        blobRepository.markCompacted(blobId, Compression.GZIP, staged.size(), documentStorage.location(key),
+                LocalDateTime.now().plus(originalGrace));
+        return true;
+    }
+
+    /**
+     * Delete the uncompressed original of a compacted blob and clear its
+     * marker. A released blob has no row any more; its files were deleted
+     * with it.
+     *
+     * @return whether the original was deleted
+     */
+    private boolean deleteOriginal(Long blobId, JobLease lease) {
+        jobLockService.checkFence(lease);
+        DocumentBlob blob = blobRepository.findById(blobId).orElse(null);
+        if (blob == null || blob.getOriginalDeleteAfter() == null) {
+            return false;
+        }
+        String hash = blob.getContentHash();
+        blobRepository.lockContent(hash);
+        blobRepository.clearOriginalDeleteAfter(blobId);
+        try {
+            documentStorage.delete(hash);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    /**
+     * GZIP stream with a configurable deflate level.
+     */
+    private static class LevelGzipOutputStream extends GZIPOutputStream {
+
+        LevelGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, 64 * 1024);
+            def.setLevel(level);
+        }
+    }
+}
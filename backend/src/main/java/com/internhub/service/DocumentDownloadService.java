@@ -0,0 +1,401 @@
+package com.internhub.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.internhub.exception.ResourceNotFoundException;
+import com.internhub.model.Document;
+import com.internhub.model.Document.DocumentType;
+import com.internhub.model.DocumentBlob;
+import com.internhub.repository.DocumentRepository;
+import com.internhub.storage.DocumentStorage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes stored documents to the HTTP response.
+ *
+ * Supports conditional GET (ETag / If-None-Match, Last-Modified /
+ * If-Modified-Since), single byte ranges (206 / 416, guarded by If-Range) and
+ * HEAD. Local files are handed to Tomcat's sendfile when the connector supports
+ * it, otherwise copied with {@link FileChannel#transferTo}; blobs in a remote
+ * {@link DocumentStorage} are streamed with a ranged read, and compressed cold
+ * blobs are inflated while streaming (skipping to the range). Documents are
+ * immutable once stored (a new version is a new row), so the upload timestamp
+ * is the Last-Modified date and the content hash is a strong ETag.
+ *
+ * Documents that have not passed their content scan are not served: 409 with
+ * Retry-After while the scan is pending, 403 once quarantined.
+ *
+ * Deliberately not transactional: the metadata lookup uses the repository's own
+ * short transaction and no connection is held while the file is streamed.
+ */
+@Service
+public class DocumentDownloadService {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * Below this size a plain copy is cheaper than setting up sendfile (same
+     * threshold as Tomcat's DefaultServlet).
+     */
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    /**
+     * Marker returned by {@link #parseRange} for a range outside the file.
+     */
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private final DocumentRepository documentRepository;
+    private final DocumentStorage documentStorage;
+
+    public DocumentDownloadService(DocumentRepository documentRepository, DocumentStorage documentStorage) {
+        this.documentRepository = documentRepository;
+        this.documentStorage = documentStorage;
+    }
+
+    /**
+     * Serve a document by id.
+     *
+     * @param inline true for Content-Disposition inline, false for attachment
+     */
+    public void serve(Long documentId, boolean inline, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Document document = documentRepository.findById(documentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
+        serve(document, inline, request, response);
+    }
+
+    /**
+     * Serve the latest version of an internship's document of a given type
+     * (e.g. its report), found with a single indexed lookup.
+     *
+     * @return false, with nothing written, if there is no such document
+     */
+    public boolean serveLatest(Long internshipId, DocumentType documentType, boolean inline,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<Document> document = documentRepository
+                .findFirstByInternshipIdAndDocumentTypeAndIsLatestVersionTrueOrderByCreatedAtDesc(
+                        internshipId, documentType);
+        if (document.isEmpty()) {
+            return false;
+        }
+        serve(document.get(), inline, request, response);
+        return true;
+    }
+
+    /**
+     * Serve an already loaded document.
+     */
+    public void serve(Document document, boolean inline, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (!document.isScanClean()) {
+            refuseUnscanned(document, response);
+            return;
+        }
+        Path path = localPath(document);
+        long length;
+        if (path != null) {
+            if (!Files.isReadable(path)) {
+                throw new IOException("File not found or not readable: " + document.getFileName());
+            }
+            length = Files.size(path);
+        } else {
+            length = document.getFileSize();
+        }
+        long lastModified = lastModified(document, path);
+        String etag = etag(document, length, lastModified);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && isIfRangeSatisfied(request, etag, lastModified)) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(document.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(document, inline));
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (path == null) {
+            // Compressed or held by a remote backend: stream the range from storage
+            try (InputStream in = openRange(document, start, count)) {
+                copy(in, response.getOutputStream(), count);
+            }
+            return;
+        }
+
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            transfer(channel, start, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    /**
+     * Answer a request for a document held back by its content scan.
+     */
+    public static void refuseUnscanned(Document document, HttpServletResponse response) throws IOException {
+        if (document.getScanStatus() == Document.ScanStatus.QUARANTINED) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "Document quarantined by content scan");
+        } else {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "10");
+            response.sendError(HttpStatus.CONFLICT.value(), "Document content scan pending");
+        }
+    }
+
+    /**
+     * Open the full content of a document for a sequential read (e.g. into an
+     * archive entry). Fails here, before anything is read, if the content is
+     * missing.
+     */
+    public InputStream openContent(Document document) throws IOException {
+        Path path = localPath(document);
+        if (path == null) {
+            return openRange(document, 0, document.getFileSize());
+        }
+        return Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    private static void transfer(FileChannel channel, long start, long count, WritableByteChannel out)
+            throws IOException {
+        long position = start;
+        long remaining = count;
+        while (remaining > 0) {
+            long written = channel.transferTo(position, remaining, out);
+            if (written <= 0) {
+                break;
+            }
+            position += written;
+            remaining -= written;
+        }
+    }
+
+    /**
+     * Stream over a range of a document without a usable local file. A
+     * compressed blob has to be inflated from the start.
+     */
+    private InputStream openRange(Document document, long start, long count) throws IOException {
+        DocumentBlob blob = document.getBlob();
+        if (blob != null && blob.isCompressed()) {
+            InputStream in = new GZIPInputStream(documentStorage.get(blob.storageKey()), STREAM_BUFFER_SIZE);
+            try {
+                in.skipNBytes(start);
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+            return in;
+        }
+        return documentStorage.get(document.getContentHash(), start, count);
+    }
+
+    private static void copy(InputStream in, OutputStream out, long count) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(STREAM_BUFFER_SIZE, count)];
+        long remaining = count;
+        while (remaining > 0) {
+            int n = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (n < 0) {
+                throw new IOException("Unexpected end of document content");
+            }
+            out.write(buffer, 0, n);
+            remaining -= n;
+        }
+    }
+
+    /**
+     * Parse a single "bytes=" range. Returns null when the header should be
+     * ignored (malformed or multiple ranges, which are served as a full 200),
+     * and {@link #UNSATISFIABLE} when no byte of the range exists.
+     */
+    private static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[] {Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            if (end < start) {
+                return null;
+            }
+            return new long[] {start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matchesWeakly(ifNoneMatch, etag);
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    /**
+     * A Range is only honoured if the If-Range validator (when present) still
+     * matches; otherwise the full, current representation is sent. Entity tags
+     * must match strongly.
+     */
+    private static boolean isIfRangeSatisfied(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return !etag.startsWith("W/") && ifRange.equals(etag);
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && date == lastModified;
+    }
+
+    private static boolean matchesWeakly(String header, String etag) {
+        String opaque = stripWeak(etag);
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag) || stripWeak(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Local file of a document: its blob when the storage backend is local, its
+     * own file for documents stored before blobs. Null when the content lives
+     * in a remote backend or is compressed.
+     */
+    private Path localPath(Document document) {
+        if (document.getBlob() != null && document.getContentHash() != null) {
+            if (document.getBlob().isCompressed()) {
+                return null;
+            }
+            return documentStorage.localPath(document.getContentHash()).orElse(null);
+        }
+        return Paths.get(document.getFilePath()).toAbsolutePath();
+    }
+
+    /**
+     * HTTP dates have second precision, so Last-Modified is truncated to
+     * seconds to compare cleanly with If-Modified-Since.
+     */
+    private static long lastModified(Document document, Path path) throws IOException {
+        long millis;
+        if (document.getCreatedAt() != null) {
+            millis = document.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } else if (path != null) {
+            millis = Files.getLastModifiedTime(path).toMillis();
+        } else {
+            millis = 0;
+        }
+        return millis / 1000 * 1000;
+    }
+
+    /**
+     * Strong ETag from the content hash; documents stored before hashes were
+     * recorded get a weak tag derived from id, size and timestamp.
+     */
+    private static String etag(Document document, long length, long lastModified) {
+        if (document.getContentHash() != null) {
+            return "\"" + document.getContentHash() + "\"";
+        }
+        return "W/\"" + document.getId() + "-" + length + "-" + lastModified + "\"";
+    }
+
+    private static String contentDisposition(Document document, boolean inline) {
+        ContentDisposition.Builder builder = inline ? ContentDisposition.inline() : ContentDisposition.attachment();
+        String name = document.getOriginalFileName();
+        if (StandardCharsets.US_ASCII.newEncoder().canEncode(name)) {
+            builder.filename(name);
+        } else {
+            builder.filename(name, StandardCharsets.UTF_8);
+        }
+        return builder.build().toString();
+    }
+}
@@ -0,0 +1,354 @@
+package com.internhub.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.internhub.event.DocumentScannedEvent;
+import com.internhub.model.Document;
+import com.internhub.model.DocumentBlob;
+import com.internhub.repository.DocumentRepository;
+import com.internhub.storage.DocumentStorage;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * First-page PNG thumbnails and low-resolution previews of PDF and image
+ * documents.
+ *
+ * Renditions are keyed by content hash and stored next to the blob in the
+ * {@link DocumentStorage} ("hash.thumbnail.png", "hash.preview.png"), so
+ * identical uploads share them and generation is idempotent. They are
+ * generated in the background, on a fixed pool of
+ * workers with a bounded queue so rendering cannot take over the CPU; only
+ * documents that passed their content scan are rendered. A
+ * request for a rendition that is not ready yet waits for it (or triggers it)
+ * up to a timeout.
+ */
+@Service
+@Slf4j
+public class DocumentPreviewService {
+
+    private static final long CACHE_MAX_AGE_SECONDS = Duration.ofDays(365).toSeconds();
+
+    /**
+     * Rendition sizes.
+     */
+    public enum Variant {
+        THUMBNAIL("thumbnail"),
+        PREVIEW("preview");
+
+        private final String suffix;
+
+        Variant(String suffix) {
+            this.suffix = suffix;
+        }
+
+        String key(String contentHash) {
+            return contentHash + "." + suffix + ".png";
+        }
+    }
+
+    private final DocumentRepository documentRepository;
+    private final DocumentStorage documentStorage;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final int thumbnailWidth;
+    private final int previewWidth;
+    private final Duration waitTimeout;
+
+    public DocumentPreviewService(DocumentRepository documentRepository,
+            DocumentStorage documentStorage,
+            @Value("${app.preview.workers:2}") int workers,
+            @Value("${app.preview.queue-capacity:100}") int queueCapacity,
+            @Value("${app.preview.thumbnail-width:256}") int thumbnailWidth,
+            @Value("${app.preview.preview-width:1024}") int previewWidth,
+            @Value("${app.preview.wait-timeout:10s}") Duration waitTimeout) {
+        this.documentRepository = documentRepository;
+        this.documentStorage = documentStorage;
+        this.thumbnailWidth = thumbnailWidth;
+        this.previewWidth = previewWidth;
+        this.waitTimeout = waitTimeout;
+
+        // Rendering is CPU-bound: platform threads even when requests run on
+        // virtual threads
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "preview-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Whether previews can be rendered for a content type.
+     */
+    public static boolean supports(String contentType) {
+        return "application/pdf".equals(contentType)
+                || "image/png".equals(contentType)
+                || "image/jpeg".equals(contentType);
+    }
+
+    /**
+     * Queue rendition generation once the document has passed its content
+     * scan. A full queue is not an error: the renditions are then generated
+     * on first request.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentScanned(DocumentScannedEvent event) {
+        if (event.getContentHash() == null || !supports(event.getContentType())) {
+            return;
+        }
+        try {
+            generate(event.getContentHash(), event.getContentType());
+        } catch (RejectedExecutionException e) {
+            log.debug("Preview queue full, deferring previews of document {}", event.getDocumentId());
+        }
+    }
+
+    /**
+     * Write a rendition of a document to the response with long-lived cache
+     * headers (renditions of a document id never change).
+     *
+     * @return false, with nothing written, if the document has no rendition
+     */
+    public boolean serve(Long documentId, Variant variant, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Optional<Document> found = documentRepository.findById(documentId);
+        if (found.isEmpty() || found.get().getContentHash() == null
+                || !supports(found.get().getContentType())) {
+            return false;
+        }
+        Document document = found.get();
+        if (!document.isScanClean()) {
+            DocumentDownloadService.refuseUnscanned(document, response);
+            return true;
+        }
+        String hash = document.getContentHash();
+        String key = variant.key(hash);
+
+        if (!documentStorage.exists(key)) {
+            try {
+                generate(hash, document.getContentType()).get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException | TimeoutException e) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "5");
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return true;
+            } catch (ExecutionException e) {
+                log.warn("Cannot render previews of document {}: {}", documentId, e.getCause().getMessage());
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for preview", e);
+            }
+        }
+
+        String etag = "\"" + hash + "-" + variant.suffix + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + CACHE_MAX_AGE_SECONDS + ", immutable");
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return true;
+        }
+
+        response.setContentType(MediaType.IMAGE_PNG_VALUE);
+        try (InputStream in = documentStorage.get(key)) {
+            in.transferTo(response.getOutputStream());
+        }
+        return true;
+    }
+
+    /**
+     * Remove the renditions of a blob that is being deleted.
+     */
+    public void deletePreviews(String contentHash) {
+        for (Variant variant : Variant.values()) {
+            try {
+                documentStorage.delete(variant.key(contentHash));
+            } catch (IOException e) {
+                log.warn("Failed to delete {} of blob {}", variant.suffix, contentHash, e);
+            }
+        }
+    }
+
+    /**
+     * Submit generation for a content hash, or join the one already running.
+     *
+     * @throws RejectedExecutionException if the queue is full
+     */
+    private CompletableFuture<Void> generate(String contentHash, String contentType) {
+        CompletableFuture<Void> existing = inFlight.get(contentHash);
+        if (existing != null) {
+            return existing;
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(contentHash, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    render(contentHash, contentType);
+                    future.complete(null);
+                } catch (Exception | LinkageError e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(contentHash, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(contentHash, future);
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * Render both variants unless they already exist. The preview is written
+     * before the thumbnail.
+     */
+    private void render(String contentHash, String contentType) throws IOException {
+        if (documentStorage.exists(Variant.THUMBNAIL.key(contentHash))
+                && documentStorage.exists(Variant.PREVIEW.key(contentHash))) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        BufferedImage source = "application/pdf".equals(contentType)
+                ? renderFirstPage(contentHash, previewWidth)
+                : readImage(contentHash, previewWidth);
+
+        BufferedImage preview = scaleToWidth(source, previewWidth);
+        store(Variant.PREVIEW.key(contentHash), preview);
+        store(Variant.THUMBNAIL.key(contentHash), scaleToWidth(preview, thumbnailWidth));
+        log.debug("Rendered previews of blob {} in {} ms", contentHash, System.currentTimeMillis() - start);
+    }
+
+    private BufferedImage renderFirstPage(String contentHash, int width) throws IOException {
+        Optional<Path> localPath = documentStorage.localPath(contentHash);
+        try (PDDocument pdf = localPath.isPresent()
+                ? Loader.loadPDF(localPath.get().toFile())
+                : loadRemotePdf(contentHash)) {
+            if (pdf.getNumberOfPages() == 0) {
+                throw new IOException("PDF has no pages");
+            }
+            PDRectangle box = pdf.getPage(0).getCropBox();
+            float scale = Math.min(4f, width / box.getWidth());
+            return new PDFRenderer(pdf).renderImage(0, scale, ImageType.RGB);
+        }
+    }
+
+    private PDDocument loadRemotePdf(String contentHash) throws IOException {
+        try (InputStream in = openContent(contentHash)) {
+            return Loader.loadPDF(new RandomAccessReadBuffer(in));
+        }
+    }
+
+    /**
+     * Decode an image subsampled close to the target width, so a large photo
+     * is never fully decoded in memory.
+     */
+    private BufferedImage readImage(String contentHash, int width) throws IOException {
+        try (InputStream in = openContent(contentHash);
+                ImageInputStream images = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(images);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(images, true, true);
+                int step = Math.max(1, reader.getWidth(0) / width);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Original content of a blob, inflating it if it was compacted.
+     */
+    private InputStream openContent(String contentHash) throws IOException {
+        if (documentStorage.exists(contentHash)) {
+            return documentStorage.get(contentHash);
+        }
+        return new GZIPInputStream(documentStorage.get(DocumentBlob.Compression.GZIP.key(contentHash)));
+    }
+
+    private static BufferedImage scaleToWidth(BufferedImage image, int width) {
+        if (image.getWidth() <= width) {
+            return image;
+        }
+        int height = Math.max(1, Math.round(image.getHeight() * (width / (float) image.getWidth())));
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage scaled = new BufferedImage(width, height, type);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private void store(String key, BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "png", out)) {
+            throw new IOException("No PNG writer available");
+        }
+        byte[] png = out.toByteArray();
+        documentStorage.put(key, new ByteArrayInputStream(png), png.length);
+    }
+}
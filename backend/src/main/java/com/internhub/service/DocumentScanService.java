@@ -0,0 +1,191 @@
+package com.internhub.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.internhub.event.DocumentScannedEvent;
+import com.internhub.event.DocumentStoredEvent;
+import com.internhub.model.Document;
+import com.internhub.model.Document.ScanStatus;
+import com.internhub.repository.DocumentRepository;
+import com.internhub.scan.DocumentScanner;
+import com.internhub.scan.ScanResult;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Post-upload content scan stage.
+ *
+ * Every stored document starts PENDING (type and magic bytes were already
+ * checked while the upload was read). Once the upload commits, the document
+ * is queued on a fixed pool of scan workers with a bounded queue, so the
+ * upload request never waits for the {@link DocumentScanner}. The verdict
+ * moves it to CLEAN, which releases downloads and previews, or QUARANTINED.
+ * Content already judged under the same hash reuses that verdict.
+ *
+ * Documents that could not be queued (full queue) or whose scan failed stay
+ * PENDING and are picked up again by a periodic sweep.
+ */
+@Service
+@Slf4j
+public class DocumentScanService {
+
+    private static final Set<ScanStatus> VERDICTS = EnumSet.of(ScanStatus.CLEAN, ScanStatus.QUARANTINED);
+
+    private final DocumentRepository documentRepository;
+    private final DocumentDownloadService documentDownloadService;
+    private final DocumentScanner documentScanner;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final int queueCapacity;
+    private final Duration retryAfter;
+
+    public DocumentScanService(DocumentRepository documentRepository,
+            DocumentDownloadService documentDownloadService,
+            DocumentScanner documentScanner,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.scan.workers:2}") int workers,
+            @Value("${app.scan.queue-capacity:200}") int queueCapacity,
+            @Value("${app.scan.retry-after:PT2M}") Duration retryAfter,
+            Environment environment) {
+        this.documentRepository = documentRepository;
+        this.documentDownloadService = documentDownloadService;
+        this.documentScanner = documentScanner;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.queueCapacity = queueCapacity;
+        this.retryAfter = retryAfter;
+
+        // Scans mostly wait on I/O (storage, remote scanners): with virtual
+        // threads enabled the workers are virtual, still bounded by the pool
+        ThreadFactory threadFactory;
+        if (Threading.VIRTUAL.isActive(environment)) {
+            threadFactory = new VirtualThreadTaskExecutor("scan-").getVirtualThreadFactory();
+        } else {
+            AtomicInteger threadCount = new AtomicInteger();
+            threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "scan-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue the scan of a new document once its upload has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentStored(DocumentStoredEvent event) {
+        submit(event.getDocumentId());
+    }
+
+    /**
+     * Re-queue documents left pending for longer than retry-after.
+     */
+    @Scheduled(fixedDelayString = "${app.scan.sweep-interval:PT1M}",
+            initialDelayString = "${app.scan.sweep-interval:PT1M}")
+    public void scanPending() {
+        List<Long> ids = documentRepository.findIdsByScanStatusCreatedBefore(ScanStatus.PENDING,
+                LocalDateTime.now().minus(retryAfter), PageRequest.of(0, queueCapacity));
+        for (Long id : ids) {
+            if (!submit(id)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return false if the queue is full
+     */
+    private boolean submit(Long documentId) {
+        if (!inFlight.add(documentId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    scan(documentId);
+                } catch (Exception e) {
+                    log.warn("Scan of document {} failed, will retry: {}", documentId, e.getMessage());
+                } finally {
+                    inFlight.remove(documentId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(documentId);
+            log.debug("Scan queue full, document {} left for the sweep", documentId);
+            return false;
+        }
+    }
+
+    private void scan(Long documentId) throws IOException {
+        Document document = documentRepository.findWithBlobById(documentId).orElse(null);
+        if (document == null || document.getScanStatus() != ScanStatus.PENDING) {
+            return;
+        }
+
+        ScanStatus verdict;
+        String detail = null;
+        List<ScanStatus> known = document.getContentHash() == null ? List.of()
+                : documentRepository.findScanVerdicts(document.getContentHash(), VERDICTS, PageRequest.of(0, 1));
+        if (!known.isEmpty()) {
+            verdict = known.get(0);
+        } else {
+            ScanResult result;
+            try (InputStream content = documentDownloadService.openContent(document)) {
+                result = documentScanner.scan(content, document.getContentType());
+            }
+            verdict = result.clean() ? ScanStatus.CLEAN : ScanStatus.QUARANTINED;
+            detail = result.detail();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int updated = documentRepository.completeScan(documentId, verdict, LocalDateTime.now(),
+                    ScanStatus.PENDING);
+            if (updated > 0 && verdict == ScanStatus.CLEAN) {
+                eventPublisher.publishEvent(new DocumentScannedEvent(
+                        documentId, document.getContentHash(), document.getContentType()));
+            }
+        });
+
+        if (verdict == ScanStatus.QUARANTINED) {
+            log.warn("Document {} ('{}') quarantined: {}", documentId, document.getOriginalFileName(),
+                    detail != null ? detail : "same content quarantined before");
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.internhub.service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
-import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.internhub.dto.DocumentHistoryResponse;
@@ -20,15 +20,28 @@ public interface DocumentService {
             MultipartFile file, String description,
             Long userId) throws IOException;
 
+    /**
+     * Upload a document from a raw request body, read once and streamed to
+     * storage. contentLength is -1 when the client did not declare it.
+     */
+    DocumentResponse uploadDocumentStream(Long internshipId, String originalFileName,
+            String contentType, long contentLength, InputStream content,
+            DocumentType documentType, String description,
+            Long userId) throws IOException;
+
     List<DocumentResponse> getInternshipDocuments(Long internshipId);
 
     List<DocumentResponse> getLatestDocuments(Long internshipId);
 
     DocumentResponse getDocumentById(Long documentId);
 
-    DocumentHistoryResponse getDocumentHistory(Long internshipId, String originalFileName);
+    /**
+     * Latest version of the internship's report, found with a single indexed
+     * lookup.
+     */
+    DocumentResponse getLatestReport(Long internshipId);
 
-    Resource downloadDocument(Long documentId) throws IOException;
+    DocumentHistoryResponse getDocumentHistory(Long internshipId, String originalFileName);
 
     void deleteDocument(Long documentId, Long userId);
 
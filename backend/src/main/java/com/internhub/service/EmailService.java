@@ -1,10 +1,21 @@
 package com.internhub.service;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
+
 @Service
 public class EmailService {
 
@@ -12,13 +23,65 @@ public class EmailService {
     private final String fromEmail;
     private final String frontendUrl;
 
+    /**
+     * Platform threads that perform SMTP sends when requests run on virtual
+     * threads; null otherwise.
+     */
+    private final ExecutorService sendExecutor;
+
     public EmailService(
             JavaMailSender mailSender,
             @Value("${spring.mail.username}") String fromEmail,
-            @Value("${app.frontend.url}") String frontendUrl) {
+            @Value("${app.frontend.url}") String frontendUrl,
+            @Value("${app.mail.send-threads:8}") int sendThreads,
+            Environment environment) {
         this.mailSender = mailSender;
         this.fromEmail = fromEmail;
         this.frontendUrl = frontendUrl;
+        this.sendExecutor = Threading.VIRTUAL.isActive(environment) ? newSendExecutor(sendThreads) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sendExecutor != null) {
+            sendExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Jakarta Mail holds monitors (synchronized connect/send) around SMTP
+     * socket I/O, which pins a virtual thread to its carrier for the whole
+     * exchange; a few slow SMTP servers would block every carrier. With
+     * virtual threads the send runs on a small platform pool instead, and the
+     * calling virtual thread parks (unpinned) until it completes.
+     */
+    private void send(SimpleMailMessage message) {
+        if (sendExecutor == null) {
+            mailSender.send(message);
+            return;
+        }
+        Future<?> result = sendExecutor.submit(() -> mailSender.send(message));
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new MailSendException("Mail send failed", e.getCause());
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while sending mail", e);
+        }
+    }
+
+    private static ExecutorService newSendExecutor(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mail-send-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     public void sendVerificationEmail(String toEmail, String token) {
@@ -32,7 +95,7 @@ public class EmailService {
                 + verificationUrl
                 + "\n\nThis link will expire in 24 hours.");
 
-        mailSender.send(message);
+        send(message);
     }
 
     public void sendPasswordResetEmail(String toEmail, String token) {
@@ -47,7 +110,7 @@ public class EmailService {
                 + "\n\nThis link will expire in 24 hours.\n\n"
                 + "If you didn't request this, please ignore this email.");
 
-        mailSender.send(message);
+        send(message);
     }
 
     public void sendTwoFactorEnabledEmail(String toEmail) {
@@ -58,7 +121,7 @@ public class EmailService {
         message.setText("Two-factor authentication has been successfully enabled on your account.\n\n"
                 + "You will now need to enter a verification code from your authenticator app when logging in.");
 
-        mailSender.send(message);
+        send(message);
     }
 
     public void send2FACodeEmail(String toEmail, int code) {
@@ -70,7 +133,7 @@ public class EmailService {
                 + "This code will expire in 5 minutes.\n\n"
                 + "If you didn't request this code, please secure your account immediately.");
 
-        mailSender.send(message);
+        send(message);
     }
 
     public void sendInstructorCredentials(String toEmail, String temporaryPassword, String firstName) {
@@ -88,7 +151,7 @@ public class EmailService {
                 + "Best regards,\n"
                 + "Internship Management System");
 
-        mailSender.send(message);
+        send(message);
     }
 
     // Instructor activation email
@@ -109,7 +172,7 @@ public class EmailService {
                 + "Best regards,\n"
                 + "InternHub Team");
 
-        mailSender.send(message);
+        send(message);
     }
 
     // Internship notification emails
@@ -127,7 +190,7 @@ public class EmailService {
                 + "Best regards,\n"
                 + "Internship Management System");
 
-        mailSender.send(message);
+        send(message);
     }
 
     public void sendInternshipValidatedEmail(String toEmail, String studentName, String internshipTitle, String instructorName) {
@@ -144,7 +207,7 @@ public class EmailService {
                 + "Best regards,\n"
                 + "Internship Management System");
 
-        mailSender.send(message);
+        send(message);
     }
 
     public void sendInternshipRefusedEmail(String toEmail, String studentName, String internshipTitle, String refusalComment) {
@@ -162,7 +225,7 @@ public class EmailService {
                 + "Best regards,\n"
                 + "Internship Management System");
 
-        mailSender.send(message);
+        send(message);
     }
 
     public void sendReportUploadedEmail(String toEmail, String instructorName, String studentName, String internshipTitle) {
@@ -179,7 +242,7 @@ public class EmailService {
                 + "Best regards,\n"
                 + "Internship Management System");
 
-        mailSender.send(message);
+        send(message);
     }
 
     public void sendInstructorReassignedEmail(String toEmail, String studentName, String internshipTitle, String newInstructorName) {
@@ -195,7 +258,7 @@ public class EmailService {
                 + "Best regards,\n"
                 + "Internship Management System");
 
-        mailSender.send(message);
+        send(message);
     }
 
     // Generic email sending method for custom messages
@@ -206,6 +269,6 @@ public class EmailService {
         message.setSubject(subject);
         message.setText(body);
 
-        mailSender.send(message);
+        send(message);
     }
 }
@@ -8,6 +8,7 @@ import com.opencsv.CSVWriter;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -40,6 +41,7 @@ public class ExportService {
      * @return Excel file as byte array
      * @throws IOException if export fails
      */
+    @Transactional(readOnly = true)
     public byte[] exportInternshipsToExcel(LocalDate fromDate, LocalDate toDate) throws IOException {
         List<Internship> internships;
         if (fromDate != null && toDate != null) {
@@ -115,6 +117,7 @@ public class ExportService {
      * @return CSV file as byte array
      * @throws IOException if export fails
      */
+    @Transactional(readOnly = true)
     public byte[] exportInternshipsToCSV(LocalDate fromDate, LocalDate toDate) throws IOException {
         List<Internship> internships;
         if (fromDate != null && toDate != null) {
@@ -164,6 +167,7 @@ public class ExportService {
      * @return Excel file as byte array
      * @throws IOException if export fails
      */
+    @Transactional(readOnly = true)
     public byte[] exportUsersToExcel() throws IOException {
         List<User> users = userRepository.findAll();
 
@@ -224,6 +228,7 @@ public class ExportService {
      * @return CSV file as byte array
      * @throws IOException if export fails
      */
+    @Transactional(readOnly = true)
     public byte[] exportUsersToCSV() throws IOException {
         List<User> users = userRepository.findAll();
 
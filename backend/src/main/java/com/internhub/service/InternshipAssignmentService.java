@@ -0,0 +1,333 @@
+package com.internhub.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.internhub.cache.SectorRoutingTable;
+import com.internhub.event.InternshipChangedEvent;
+import com.internhub.model.Internship;
+import com.internhub.model.InternshipStatus;
+import com.internhub.repository.InternshipRepository;
+import com.internhub.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Automatic assignment of submitted internships (app.assignment.enabled).
+ *
+ * Instead of notifying every instructor of the sector and letting them race
+ * through claimInternship, a submission is assigned to the eligible instructor
+ * with the fewest open assignments (PENDING_VALIDATION internships assigned to
+ * them), ties going to the one assigned least recently, then to the lowest id.
+ * Instructors at app.assignment.max-open-per-instructor are skipped. Only the
+ * chosen instructor is notified.
+ *
+ * Workload counts are kept in memory per node and reloaded from the database
+ * every app.assignment.refresh-interval. They only order the candidates: the
+ * assignment itself is the conditional UPDATE also used by claims, which
+ * checks that the internship is still unassigned, so several nodes (or a
+ * manual claim) never assign the same internship twice. It runs with the
+ * instructor's row locked, so the cap it re-checks holds across nodes too.
+ *
+ * Internships left unassigned (no eligible instructor, all at the cap) are
+ * retried by the same periodic pass. When the sectors of an instructor change,
+ * their assignments outside their sectors are handed back and reassigned.
+ */
+@Service
+@Slf4j
+public class InternshipAssignmentService {
+
+    private static final InternshipStatus OPEN = InternshipStatus.PENDING_VALIDATION;
+
+    private final InternshipRepository internshipRepository;
+    private final UserRepository userRepository;
+    private final SectorRoutingTable sectorRoutingTable;
+    private final NotificationService notificationService;
+    private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long maxOpenPerInstructor;
+    private final int batchSize;
+
+    private volatile Map<Long, AtomicInteger> openAssignments = new ConcurrentHashMap<>();
+    private final Map<Long, Long> lastAssigned = new ConcurrentHashMap<>();
+    private final AtomicLong assignmentTick = new AtomicLong();
+
+    public InternshipAssignmentService(InternshipRepository internshipRepository,
+            UserRepository userRepository,
+            SectorRoutingTable sectorRoutingTable,
+            NotificationService notificationService,
+            EmailService emailService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.assignment.enabled:false}") boolean enabled,
+            @Value("${app.assignment.max-open-per-instructor:25}") int maxOpenPerInstructor,
+            @Value("${app.assignment.batch-size:200}") int batchSize) {
+        this.internshipRepository = internshipRepository;
+        this.userRepository = userRepository;
+        this.sectorRoutingTable = sectorRoutingTable;
+        this.notificationService = notificationService;
+        this.emailService = emailService;
+        this.eventPublisher = eventPublisher;
+        // Own transactions: most of the work runs in afterCommit callbacks,
+        // where REQUIRED would join the transaction that just committed
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.maxOpenPerInstructor = maxOpenPerInstructor > 0 ? maxOpenPerInstructor : Long.MAX_VALUE;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Assign a submitted internship once the submission has committed.
+     */
+    public void assignAfterCommit(Long internshipId, Long sectorId) {
+        afterCommit(() -> assign(internshipId, sectorId));
+    }
+
+    /**
+     * An assigned internship left PENDING_VALIDATION (validated, refused,
+     * deleted): lower the instructor's count once that has committed.
+     */
+    public void releasedAfterCommit(Long instructorId) {
+        if (!enabled || instructorId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            AtomicInteger count = openAssignments.get(instructorId);
+            if (count != null) {
+                count.updateAndGet(value -> Math.max(0, value - 1));
+            }
+        });
+    }
+
+    /**
+     * Hand back the assignments of an instructor outside the sectors they now
+     * cover and reassign them, then offer unassigned internships to the
+     * instructor's (possibly new) sectors. Runs after commit, after the sector
+     * routing table was updated.
+     */
+    public void rebalanceAfterCommit(Long instructorId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            Set<Long> sectors = sectorRoutingTable.sectorsOf(instructorId);
+            int released = 0;
+            for (Object[] row : internshipRepository.findIdsAndSectorsByInstructorAndStatus(instructorId, OPEN)) {
+                Long internshipId = (Long) row[0];
+                Long sectorId = (Long) row[1];
+                if (sectors.contains(sectorId)) {
+                    continue;
+                }
+                Integer updated = transactionTemplate.execute(status -> {
+                    int rows = internshipRepository.releaseAssignment(internshipId, instructorId, OPEN,
+                            LocalDateTime.now());
+                    if (rows > 0) {
+                        publishChanged(internshipId, sectorId);
+                    }
+                    return rows;
+                });
+                if (updated != null && updated > 0) {
+                    released++;
+                    assign(internshipId, sectorId);
+                }
+            }
+            if (released > 0) {
+                log.info("Reassigned {} internships of instructor {} after a sector change", released, instructorId);
+            }
+            reloadWorkload();
+            assignUnassigned();
+        });
+    }
+
+    /**
+     * Reload the workload counts and retry the internships still unassigned.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.assignment.refresh-interval:1m}",
+            initialDelayString = "${app.assignment.refresh-interval:1m}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        reloadWorkload();
+        assignUnassigned();
+    }
+
+    private void reloadWorkload() {
+        Map<Long, AtomicInteger> counts = new ConcurrentHashMap<>();
+        for (Object[] row : internshipRepository.countPerInstructorByStatus(OPEN)) {
+            counts.put((Long) row[0], new AtomicInteger(((Long) row[1]).intValue()));
+        }
+        openAssignments = counts;
+    }
+
+    private void assignUnassigned() {
+        List<Object[]> unassigned = internshipRepository.findUnassignedIdsAndSectors(OPEN,
+                PageRequest.of(0, batchSize));
+        int assigned = 0;
+        for (Object[] row : unassigned) {
+            if (assign((Long) row[0], (Long) row[1])) {
+                assigned++;
+            }
+        }
+        if (assigned > 0) {
+            log.info("Assigned {} of {} waiting internships", assigned, unassigned.size());
+        }
+    }
+
+    /**
+     * Try the eligible instructors of the sector, least loaded first, until one
+     * of them gets the internship.
+     *
+     * @return false if nobody could take it or it was no longer unassigned
+     */
+    private boolean assign(Long internshipId, Long sectorId) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            for (Long instructorId : candidates(sectorId)) {
+                Boolean assigned = transactionTemplate.execute(status -> {
+                    // Serializes assignments to this instructor, so the cap
+                    // count below sees the ones committed by other nodes
+                    userRepository.lockById(instructorId);
+                    int updated = internshipRepository.assignIfUnassigned(internshipId,
+                            userRepository.getReferenceById(instructorId), OPEN, maxOpenPerInstructor,
+                            LocalDateTime.now());
+                    if (updated == 0) {
+                        return false;
+                    }
+                    publishChanged(internshipId, sectorId);
+                    return true;
+                });
+                if (Boolean.TRUE.equals(assigned)) {
+                    openAssignments.computeIfAbsent(instructorId, id -> new AtomicInteger()).incrementAndGet();
+                    lastAssigned.put(instructorId, assignmentTick.incrementAndGet());
+                    notifyAssignee(internshipId);
+                    return true;
+                }
+                // Either the internship is gone (claimed, assigned elsewhere,
+                // withdrawn) or this instructor reached the cap on another node
+                if (!internshipRepository.existsByIdAndStatusAndInstructorIsNull(internshipId, OPEN)) {
+                    return false;
+                }
+                openAssignments.computeIfAbsent(instructorId, id -> new AtomicInteger())
+                        .set((int) Math.min(maxOpenPerInstructor, Integer.MAX_VALUE));
+            }
+            log.debug("No instructor available for internship {} in sector {}", internshipId, sectorId);
+        } catch (RuntimeException e) {
+            log.warn("Assignment of internship {} failed, will retry: {}", internshipId, e.getMessage());
+        }
+        return false;
+    }
+
+    private List<Long> candidates(Long sectorId) {
+        Map<Long, AtomicInteger> counts = openAssignments;
+        List<Long> candidates = new ArrayList<>();
+        for (long instructorId : sectorRoutingTable.instructorsOf(sectorId)) {
+            if (load(counts, instructorId) < maxOpenPerInstructor) {
+                candidates.add(instructorId);
+            }
+        }
+        // instructorsOf is ascending, so the id is the last tie-breaker
+        candidates.sort(Comparator.<Long>comparingInt(id -> load(counts, id))
+                .thenComparingLong(id -> lastAssigned.getOrDefault(id, 0L)));
+        return candidates;
+    }
+
+    private static int load(Map<Long, AtomicInteger> counts, Long instructorId) {
+        AtomicInteger count = counts.get(instructorId);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * The bulk UPDATEs bypass the entity, so tell the search cache (after
+     * commit) that the instructor of the internship changed.
+     */
+    private void publishChanged(Long internshipId, Long sectorId) {
+        eventPublisher.publishEvent(new InternshipChangedEvent(internshipId, Set.of(sectorId), EnumSet.of(OPEN)));
+    }
+
+    /**
+     * Tell the instructor about an assignment once it has committed: the
+     * notification is written in its own transaction and the e-mail sent
+     * outside any, so neither holds the instructor's row lock. A failure here
+     * does not undo the assignment.
+     */
+    private void notifyAssignee(Long internshipId) {
+        AssignmentMail mail;
+        try {
+            mail = transactionTemplate.execute(status -> internshipRepository.findById(internshipId)
+                    .filter(internship -> internship.getInstructor() != null)
+                    .map(internship -> {
+                        notificationService.notifyInternshipSubmitted(internship);
+                        return AssignmentMail.of(internship);
+                    })
+                    .orElse(null));
+        } catch (RuntimeException e) {
+            log.warn("Assignment notification for internship {} not created: {}", internshipId, e.getMessage());
+            return;
+        }
+        if (mail == null) {
+            return;
+        }
+        try {
+            emailService.sendInternshipSubmittedEmail(mail.to(), mail.studentName(), mail.title());
+        } catch (RuntimeException e) {
+            log.warn("Assignment email for internship {} not sent: {}", internshipId, e.getMessage());
+        }
+    }
+
+    /**
+     * What the assignment e-mail needs, read while the internship is loaded.
+     */
+    private record AssignmentMail(String to, String studentName, String title) {
+
+        static AssignmentMail of(Internship internship) {
+            return new AssignmentMail(internship.getInstructor().getEmail(),
+                    internship.getStudent().getFirstName() + " " + internship.getStudent().getLastName(),
+                    internship.getTitle());
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
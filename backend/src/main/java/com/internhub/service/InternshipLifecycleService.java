@@ -0,0 +1,151 @@
+package com.internhub.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.internhub.event.InternshipChangedEvent;
+import com.internhub.model.ActivityLog;
+import com.internhub.model.Internship;
+import com.internhub.model.InternshipStatus;
+import com.internhub.model.Notification;
+import com.internhub.model.User;
+import com.internhub.repository.InternshipRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Date-driven lifecycle transitions: VALIDATED internships move to
+ * IN_PROGRESS on their start date, IN_PROGRESS ones to COMPLETED the day
+ * after their end date.
+ *
+ * Each run works in chunks of app.lifecycle.chunk-size, one transaction per
+ * chunk: lock the due rows (partial indexes from V6, FOR UPDATE SKIP LOCKED),
+ * move them with one UPDATE, then create the notifications of the student and
+ * instructor and the activity log entries with batched inserts. Several nodes
+ * can run the job at the same time: each one skips the rows another has
+ * locked, and the UPDATE only touches rows still in the source status.
+ */
+@Service
+@Slf4j
+public class InternshipLifecycleService {
+
+    private final InternshipRepository internshipRepository;
+    private final NotificationService notificationService;
+    private final ActivityLogService activityLogService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public InternshipLifecycleService(InternshipRepository internshipRepository,
+            NotificationService notificationService,
+            ActivityLogService activityLogService,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.lifecycle.enabled:true}") boolean enabled,
+            @Value("${app.lifecycle.chunk-size:200}") int chunkSize) {
+        this.internshipRepository = internshipRepository;
+        this.notificationService = notificationService;
+        this.activityLogService = activityLogService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.lifecycle.interval:PT15M}",
+            initialDelayString = "${app.lifecycle.initial-delay:PT2M}")
+    public void advanceLifecycle() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        int started = advance(InternshipStatus.VALIDATED, InternshipStatus.IN_PROGRESS,
+                () -> internshipRepository.lockDueToStart(today, chunkSize));
+        int completed = advance(InternshipStatus.IN_PROGRESS, InternshipStatus.COMPLETED,
+                () -> internshipRepository.lockDueToComplete(today, chunkSize));
+        if (started > 0 || completed > 0) {
+            log.info("Internship lifecycle: {} started, {} completed", started, completed);
+        }
+    }
+
+    private int advance(InternshipStatus from, InternshipStatus to, Supplier<List<Long>> lockDue) {
+        int total = 0;
+        while (true) {
+            Integer moved;
+            try {
+                moved = transactionTemplate.execute(status -> advanceChunk(from, to, lockDue.get()));
+            } catch (RuntimeException e) {
+                log.warn("Lifecycle transition {} -> {} failed, will retry: {}", from, to, e.getMessage());
+                break;
+            }
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            if (moved < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int advanceChunk(InternshipStatus from, InternshipStatus to, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int updated = internshipRepository.transitionStatus(ids, from, to, LocalDateTime.now());
+
+        List<Internship> internships = internshipRepository.findWithParticipantsByIdIn(ids);
+        List<Notification> notifications = new ArrayList<>();
+        List<ActivityLog> logs = new ArrayList<>();
+        Set<Long> sectorIds = new HashSet<>();
+        for (Internship internship : internships) {
+            if (internship.getStatus() != to) {
+                continue;
+            }
+            sectorIds.add(internship.getSector().getId());
+            addNotifications(notifications, internship, to);
+            logs.add(new ActivityLog(null,
+                    to == InternshipStatus.IN_PROGRESS ? ActivityLogService.ACTION_INTERNSHIP_START
+                            : ActivityLogService.ACTION_INTERNSHIP_COMPLETE,
+                    "INTERNSHIP", internship.getId(),
+                    "Internship " + internship.getTitle() + " moved from " + from + " to " + to));
+        }
+        notificationService.createNotifications(notifications);
+        activityLogService.logActivities(logs);
+
+        eventPublisher.publishEvent(new InternshipChangedEvent(null, sectorIds, EnumSet.of(from, to)));
+        return updated;
+    }
+
+    private static void addNotifications(List<Notification> notifications, Internship internship,
+            InternshipStatus to) {
+        User student = internship.getStudent();
+        String title = to == InternshipStatus.IN_PROGRESS ? "Internship Started" : "Internship Completed";
+        String verb = to == InternshipStatus.IN_PROGRESS ? "has started" : "is now completed";
+
+        notifications.add(new Notification(student, "INTERNSHIP_STATUS", title,
+                String.format("Your internship '%s' at %s %s", internship.getTitle(),
+                        internship.getCompanyName(), verb),
+                "INTERNSHIP", internship.getId()));
+        if (internship.getInstructor() != null) {
+            notifications.add(new Notification(internship.getInstructor(), "INTERNSHIP_STATUS", title,
+                    String.format("The internship '%s' of %s %s %s", internship.getTitle(),
+                            student.getFirstName(), student.getLastName(), verb),
+                    "INTERNSHIP", internship.getId()));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.internhub.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.internhub.exception.BusinessException;
+import com.internhub.repository.JobLockRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Database-backed leases for jobs that must run on one node at a time.
+ *
+ * A lease is held until it expires or is released; a node that dies simply
+ * stops renewing it and another node takes over once it expired. Every
+ * acquisition gets a higher fencing token. A holder that may have lost its
+ * lease without noticing (long GC pause, network partition) calls
+ * {@link #checkFence} inside the transaction doing its writes: the check
+ * fails if another node took over, and holds the job's fence lock (shared)
+ * so no other node can take over until that transaction ended. Renewing the
+ * lease does not need that lock, so a long fenced transaction does not hold
+ * up the heartbeat.
+ *
+ * The node identity is app.jobs.node-id, by default the JVM's process name
+ * (pid@host).
+ */
+@Service
+@Slf4j
+public class JobLockService {
+
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    public JobLockService(JobLockRepository jobLockRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.jobs.node-id:}") String nodeId) {
+        this.jobLockRepository = jobLockRepository;
+        // Lease changes commit on their own, whatever the caller is doing
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Take the lease of a job for leaseTime, unless another node holds it.
+     */
+    public Optional<JobLease> tryAcquire(String name, Duration leaseTime) {
+        return transactionTemplate.execute(status -> {
+            if (jobLockRepository.tryAcquire(name, nodeId, seconds(leaseTime)) == 0) {
+                return Optional.<JobLease>empty();
+            }
+            return jobLockRepository.findFencingToken(name, nodeId)
+                    .map(token -> new JobLease(name, nodeId, token));
+        });
+    }
+
+    /**
+     * Extend a lease by leaseTime from now.
+     *
+     * @return false if the lease expired or was taken over
+     */
+    public boolean renew(JobLease lease, Duration leaseTime) {
+        Integer updated = transactionTemplate.execute(status
+                -> jobLockRepository.renew(lease.name(), lease.fencingToken(), seconds(leaseTime)));
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * Give the lease up, but keep it until at least minHold after it was
+     * acquired.
+     */
+    public void release(JobLease lease, Duration minHold) {
+        transactionTemplate.executeWithoutResult(status
+                -> jobLockRepository.release(lease.name(), lease.fencingToken(), seconds(minHold)));
+    }
+
+    /**
+     * Make sure the lease is still held, and keep it held, for the rest of the
+     * current transaction.
+     *
+     * @throws BusinessException if the lease expired or another node took it
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void checkFence(JobLease lease) {
+        // Lock first, then read: the read must not use a snapshot taken
+        // before a takeover that committed while waiting for the lock
+        jobLockRepository.lockFenceShared(lease.name());
+        if (jobLockRepository.findIfHeld(lease.name(), lease.fencingToken()).isEmpty()) {
+            throw new BusinessException("Lease of job " + lease.name() + " (token " + lease.fencingToken()
+                    + ") is no longer held by " + lease.owner());
+        }
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+
+    /**
+     * A held lease. The fencing token identifies this acquisition.
+     */
+    public record JobLease(String name, String owner, long fencingToken) {
+
+    }
+}
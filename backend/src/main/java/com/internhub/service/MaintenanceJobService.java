@@ -0,0 +1,119 @@
+package com.internhub.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.internhub.repository.VerificationTokenRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodic maintenance that must run once per cluster, not once per node:
+ * activity log retention, removal of expired verification tokens and the
+ * recomputation of the admin dashboard statistics. Every node triggers the
+ * jobs; {@link ClusterJobRunner} lets one of them run each round.
+ *
+ * Other services run their sweeps the same way: blob compaction
+ * (DocumentCompactionService) and reminder planning (DeadlineReminderService).
+ * The jobs that split their work between nodes with SKIP LOCKED (lifecycle
+ * transitions, reminder dispatch) and the scan sweep, which feeds each
+ * node's own scan workers, still run everywhere.
+ */
+@Service
+@Slf4j
+public class MaintenanceJobService {
+
+    static final String ACTIVITY_LOG_RETENTION = "activity-log-retention";
+    static final String TOKEN_CLEANUP = "verification-token-cleanup";
+    static final String STATISTICS_REFRESH = "statistics-refresh";
+
+    private final ClusterJobRunner jobRunner;
+    private final JobLockService jobLockService;
+    private final ActivityLogService activityLogService;
+    private final VerificationTokenRepository verificationTokenRepository;
+    private final StatisticsService statisticsService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration leaseTime;
+    private final int activityLogRetentionDays;
+    private final Duration activityLogRetentionInterval;
+    private final Duration tokenCleanupInterval;
+    private final Duration statisticsRefreshInterval;
+
+    public MaintenanceJobService(ClusterJobRunner jobRunner,
+            JobLockService jobLockService,
+            ActivityLogService activityLogService,
+            VerificationTokenRepository verificationTokenRepository,
+            StatisticsService statisticsService,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.jobs.enabled:true}") boolean enabled,
+            @Value("${app.jobs.lease-time:PT5M}") Duration leaseTime,
+            @Value("${app.jobs.activity-log-retention.days:180}") int activityLogRetentionDays,
+            @Value("${app.jobs.activity-log-retention.interval:PT24H}") Duration activityLogRetentionInterval,
+            @Value("${app.jobs.token-cleanup.interval:PT1H}") Duration tokenCleanupInterval,
+            @Value("${app.jobs.statistics-refresh.interval:PT5M}") Duration statisticsRefreshInterval) {
+        this.jobRunner = jobRunner;
+        this.jobLockService = jobLockService;
+        this.activityLogService = activityLogService;
+        this.verificationTokenRepository = verificationTokenRepository;
+        this.statisticsService = statisticsService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.leaseTime = leaseTime;
+        this.activityLogRetentionDays = activityLogRetentionDays;
+        this.activityLogRetentionInterval = activityLogRetentionInterval;
+        this.tokenCleanupInterval = tokenCleanupInterval;
+        this.statisticsRefreshInterval = statisticsRefreshInterval;
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.activity-log-retention.interval:PT24H}",
+            initialDelayString = "${app.jobs.initial-delay:PT5M}")
+    public void purgeActivityLogs() {
+        if (!enabled) {
+            return;
+        }
+        jobRunner.runExclusive(ACTIVITY_LOG_RETENTION, leaseTime, activityLogRetentionInterval, lease -> {
+            Integer deleted = transactionTemplate.execute(status -> {
+                jobLockService.checkFence(lease);
+                return activityLogService.deleteOldLogs(activityLogRetentionDays);
+            });
+            log.info("Deleted {} activity log entries older than {} days", deleted, activityLogRetentionDays);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.token-cleanup.interval:PT1H}",
+            initialDelayString = "${app.jobs.initial-delay:PT5M}")
+    public void purgeExpiredTokens() {
+        if (!enabled) {
+            return;
+        }
+        jobRunner.runExclusive(TOKEN_CLEANUP, leaseTime, tokenCleanupInterval, lease -> {
+            Integer deleted = transactionTemplate.execute(status -> {
+                jobLockService.checkFence(lease);
+                return verificationTokenRepository.deleteExpired(LocalDateTime.now());
+            });
+            if (deleted != null && deleted > 0) {
+                log.info("Deleted {} expired verification tokens", deleted);
+            }
+        });
+    }
+
+    /**
+     * Recompute the dashboard statistics into the shared cache (Redis tier
+     * when enabled), so admin requests do not run the aggregations.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.statistics-refresh.interval:PT5M}",
+            initialDelayString = "${app.jobs.initial-delay:PT5M}")
+    public void refreshStatistics() {
+        if (!enabled) {
+            return;
+        }
+        jobRunner.runExclusive(STATISTICS_REFRESH, leaseTime, statisticsRefreshInterval,
+                lease -> statisticsService.refreshEnhancedStatistics());
+    }
+}
@@ -1,6 +1,10 @@
 package com.internhub.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -8,12 +12,16 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.internhub.dto.NotificationDTO;
 import com.internhub.model.Internship;
 import com.internhub.model.Notification;
+import com.internhub.model.NotificationPreference;
 import com.internhub.model.NotificationPreference.NotificationType;
 import com.internhub.model.User;
+import com.internhub.repository.NotificationPreferenceRepository;
 import com.internhub.repository.NotificationRepository;
 
 import lombok.extern.slf4j.Slf4j;
@@ -24,13 +32,16 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final NotificationPreferenceService preferenceService;
+    private final NotificationPreferenceRepository preferenceRepository;
     private final EmailService emailService;
 
     public NotificationService(NotificationRepository notificationRepository,
             NotificationPreferenceService preferenceService,
+            NotificationPreferenceRepository preferenceRepository,
             EmailService emailService) {
         this.notificationRepository = notificationRepository;
         this.preferenceService = preferenceService;
+        this.preferenceRepository = preferenceRepository;
         this.emailService = emailService;
     }
 
@@ -46,8 +57,9 @@ public class NotificationService {
         NotificationType notificationType = mapToNotificationType(type);
 
         // Check if in-app notifications are enabled
+        Notification notification = null;
         if (preferenceService.isChannelEnabled(user.getId(), notificationType, "in_app")) {
-            Notification notification = new Notification(user, type, title, message, entityType, entityId);
+            notification = new Notification(user, type, title, message, entityType, entityId);
             notification = notificationRepository.save(notification);
             log.debug("Created in-app notification for user {}: {}", user.getId(), title);
         }
@@ -66,10 +78,68 @@ public class NotificationService {
         // if (preferenceService.isChannelEnabled(user.getId(), notificationType, "push")) {
         //     sendPushNotification(user, title, message);
         // }
+        if (notification != null) {
+            // Querying here would flush the insert and break up batching
+            return notification;
+        }
         return notificationRepository.findFirstByUserOrderByCreatedAtDesc(user)
                 .orElse(new Notification(user, type, title, message));
     }
 
+    /**
+     * Create many notifications at once, e.g. from a scheduled job. Applies the
+     * same channel preferences as createNotification, but reads them with one
+     * query per notification type and inserts the in-app notifications with a
+     * single saveAll (JDBC batches). E-mails go out after commit, so a job does
+     * not hold its row locks while talking to the mail server. The users must
+     * be loaded.
+     *
+     * @return the number of in-app notifications created
+     */
+    @Transactional
+    public int createNotifications(List<Notification> notifications) {
+        Map<NotificationType, List<Notification>> byType = notifications.stream()
+                .collect(Collectors.groupingBy(n -> mapToNotificationType(n.getType())));
+
+        List<Notification> inApp = new ArrayList<>();
+        List<Notification> emails = new ArrayList<>();
+        for (Map.Entry<NotificationType, List<Notification>> entry : byType.entrySet()) {
+            Set<Long> userIds = entry.getValue().stream()
+                    .map(n -> n.getUser().getId())
+                    .collect(Collectors.toSet());
+            Map<Long, NotificationPreference> preferences = preferenceRepository
+                    .findByUserIdInAndNotificationType(userIds, entry.getKey())
+                    .stream()
+                    .collect(Collectors.toMap(p -> p.getUser().getId(), Function.identity()));
+
+            for (Notification notification : entry.getValue()) {
+                // No preference row means every channel is enabled
+                NotificationPreference preference = preferences.get(notification.getUser().getId());
+                if (preference == null || preference.getInAppEnabled()) {
+                    inApp.add(notification);
+                }
+                if (preference == null || preference.getEmailEnabled()) {
+                    emails.add(notification);
+                }
+            }
+        }
+
+        notificationRepository.saveAll(inApp);
+        afterCommit(() -> {
+            for (Notification notification : emails) {
+                try {
+                    sendEmailNotification(notification.getUser(), notification.getTitle(),
+                            notification.getMessage());
+                } catch (Exception e) {
+                    log.error("Failed to send email notification to user {}: {}",
+                            notification.getUser().getId(), e.getMessage());
+                }
+            }
+        });
+        log.debug("Created {} in-app notifications in batch", inApp.size());
+        return inApp.size();
+    }
+
     private NotificationType mapToNotificationType(String type) {
         return switch (type) {
             case "INTERNSHIP_STATUS" ->
@@ -93,6 +163,19 @@ public class NotificationService {
         };
     }
 
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
     private void sendEmailNotification(User user, String title, String message) {
         String subject = "InternHub: " + title;
         String body = String.format(
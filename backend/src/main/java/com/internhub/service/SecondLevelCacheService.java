@@ -0,0 +1,147 @@
+package com.internhub.service;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.internhub.cache.TieredCacheManager;
+import com.internhub.dto.SecondLevelCacheStatsResponse;
+import com.internhub.model.Sector;
+import com.internhub.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Explicit invalidation and statistics of the Hibernate second-level cache
+ * (regions {@value Sector#CACHE_REGION} and {@value User#SECTORS_CACHE_REGION}).
+ *
+ * Hibernate keeps the regions up to date for changes made through the
+ * session; the evictions here cover what it cannot see: removed sectors that
+ * are still referenced from cached instructor sector sets, and the copies
+ * held by the other backend nodes. Each eviction is applied locally and then
+ * published on the cache invalidation channel under
+ * {@value #INVALIDATION_NAME}, where the other nodes apply it to their own
+ * regions; without the Redis tier they only drop their entries when they
+ * expire (policy in application.conf). Inside a transaction the eviction runs
+ * after commit, so a concurrent reader cannot re-cache the old state.
+ */
+@Service
+@Slf4j
+public class SecondLevelCacheService {
+
+    static final String INVALIDATION_NAME = "hibernateSecondLevel";
+
+    private static final String INSTRUCTOR_SECTORS_ROLE = User.class.getName() + ".sectors";
+
+    private final SessionFactory sessionFactory;
+    private final TieredCacheManager cacheManager;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory, TieredCacheManager cacheManager) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.cacheManager = cacheManager;
+        cacheManager.registerLocalInvalidation(INVALIDATION_NAME, key -> {
+            if (key instanceof Eviction eviction) {
+                evictLocal(eviction);
+            } else {
+                evictLocal(new Eviction(Target.ALL_SECTORS, null));
+            }
+        });
+    }
+
+    /**
+     * Drop one sector from the cache.
+     */
+    public void evictSector(Long sectorId) {
+        afterCommit(new Eviction(Target.SECTOR, sectorId));
+    }
+
+    /**
+     * Drop every cached sector and every cached instructor sector set, e.g.
+     * after a sector was removed.
+     */
+    public void evictAllSectors() {
+        afterCommit(new Eviction(Target.ALL_SECTORS, null));
+    }
+
+    /**
+     * Drop the cached sector set of one instructor.
+     */
+    public void evictInstructorSectors(Long userId) {
+        afterCommit(new Eviction(Target.INSTRUCTOR_SECTORS, userId));
+    }
+
+    public List<SecondLevelCacheStatsResponse> getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+
+        List<SecondLevelCacheStatsResponse> result = new ArrayList<>();
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            if (region != null) {
+                result.add(new SecondLevelCacheStatsResponse(regionName, region.getHitCount(),
+                        region.getMissCount(), region.getPutCount(), region.getElementCountInMemory()));
+            }
+        }
+        return result;
+    }
+
+    private void afterCommit(Eviction eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(eviction);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    evict(eviction);
+                } catch (RuntimeException e) {
+                    log.warn("Second-level cache eviction failed: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void evict(Eviction eviction) {
+        evictLocal(eviction);
+        try {
+            cacheManager.broadcast(INVALIDATION_NAME, eviction);
+        } catch (RuntimeException e) {
+            log.warn("Second-level cache invalidation broadcast failed: {}", e.getMessage());
+        }
+    }
+
+    private void evictLocal(Eviction eviction) {
+        switch (eviction.target()) {
+            case SECTOR -> sessionFactory.getCache().evictEntityData(Sector.class, eviction.id());
+            case INSTRUCTOR_SECTORS -> sessionFactory.getCache().evictCollectionData(INSTRUCTOR_SECTORS_ROLE,
+                    eviction.id());
+            case ALL_SECTORS -> {
+                sessionFactory.getCache().evictEntityData(Sector.class);
+                sessionFactory.getCache().evictCollectionData(INSTRUCTOR_SECTORS_ROLE);
+            }
+        }
+    }
+
+    enum Target {
+        SECTOR,
+        INSTRUCTOR_SECTORS,
+        ALL_SECTORS
+    }
+
+    /**
+     * An eviction as sent to the other nodes.
+     */
+    record Eviction(Target target, Long id) implements Serializable {
+    }
+}
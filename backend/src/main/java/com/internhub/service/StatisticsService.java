@@ -44,6 +44,13 @@ public interface StatisticsService {
      * @return Enhanced statistics response with all metrics
      */
     EnhancedStatisticsResponse getEnhancedStatistics();
+
+    /**
+     * Recompute the enhanced statistics and replace the cached copy.
+     *
+     * @return The recomputed statistics
+     */
+    EnhancedStatisticsResponse refreshEnhancedStatistics();
     
     /**
      * Get instructor-specific statistics.
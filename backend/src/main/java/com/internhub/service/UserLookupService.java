@@ -0,0 +1,80 @@
+package com.internhub.service;
+
+import java.util.Optional;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.internhub.cache.CacheNames;
+import com.internhub.dto.InstructorContact;
+import com.internhub.repository.UserRepository;
+
+/**
+ * Cached lookups of hot, rarely changing user data: the id behind an e-mail
+ * address and the contact details of an instructor. Callers that change users,
+ * names or e-mail addresses must evict through this service; the eviction
+ * takes effect when the caller's transaction commits.
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserLookupService {
+
+    private final UserRepository userRepository;
+
+    public UserLookupService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Resolve a user id from an e-mail address. Unknown addresses are not
+     * cached.
+     */
+    @Cacheable(cacheNames = CacheNames.USER_ID_BY_EMAIL, key = "#email", unless = "#result == null")
+    public Optional<Long> findUserIdByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return userRepository.findIdByEmail(email);
+    }
+
+    /**
+     * Get the e-mail address and name of an instructor. Which instructors
+     * cover a sector is answered by the SectorRoutingTable.
+     */
+    @Cacheable(cacheNames = CacheNames.INSTRUCTOR_CONTACT, key = "#instructorId", unless = "#result == null")
+    public Optional<InstructorContact> getInstructorContact(Long instructorId) {
+        return userRepository.findContactById(instructorId);
+    }
+
+    /**
+     * Evict the cached id of an e-mail address (user deleted or e-mail
+     * changed).
+     */
+    @CacheEvict(cacheNames = CacheNames.USER_ID_BY_EMAIL, key = "#email")
+    public void evictUserEmail(String email) {
+        // Eviction handled by the cache annotation
+    }
+
+    /**
+     * Evict the cached contact details of an instructor (renamed or e-mail
+     * changed).
+     */
+    @CacheEvict(cacheNames = CacheNames.INSTRUCTOR_CONTACT, key = "#instructorId")
+    public void evictInstructorContact(Long instructorId) {
+        // Eviction handled by the cache annotation
+    }
+
+    /**
+     * Evict everything cached for a user.
+     */
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.USER_ID_BY_EMAIL, key = "#email"),
+        @CacheEvict(cacheNames = CacheNames.INSTRUCTOR_CONTACT, key = "#userId")
+    })
+    public void evictUser(String email, Long userId) {
+        // Eviction handled by the cache annotations
+    }
+}
@@ -3,6 +3,7 @@ package com.internhub.service.impl;
 import com.internhub.dto.DocumentHistoryResponse;
 import com.internhub.dto.DocumentHistoryResponse.DocumentVersionInfo;
 import com.internhub.dto.DocumentResponse;
+import com.internhub.event.DocumentStoredEvent;
 import com.internhub.exception.ResourceNotFoundException;
 import com.internhub.model.Document;
 import com.internhub.model.Document.DocumentType;
@@ -12,27 +13,28 @@ import com.internhub.repository.DocumentRepository;
 import com.internhub.repository.InternshipRepository;
 import com.internhub.repository.UserRepository;
 import com.internhub.service.ActivityLogService;
+import com.internhub.service.DocumentBlobService;
 import com.internhub.service.DocumentService;
 import com.internhub.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -46,9 +48,9 @@ public class DocumentServiceImpl implements DocumentService {
     private final UserRepository userRepository;
     private final ActivityLogService activityLogService;
     private final NotificationService notificationService;
-
-    @Value("${file.upload-dir:uploads/documents}")
-    private String uploadDir;
+    private final DocumentBlobService documentBlobService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${file.max-size:10485760}") // 10MB default
     private Long maxFileSize;
@@ -64,8 +66,11 @@ public class DocumentServiceImpl implements DocumentService {
             "text/plain"
     );
 
+    /**
+     * Not transactional: the body is read before a transaction (and its
+     * connection) is opened, see {@link #storeDocument}.
+     */
     @Override
-    @Transactional
     public DocumentResponse uploadDocument(Long internshipId, MultipartFile file,
             DocumentType documentType, String description,
             Long userId) throws IOException {
@@ -83,66 +88,106 @@ public class DocumentServiceImpl implements DocumentService {
                     + (maxFileSize / 1024 / 1024) + "MB");
         }
 
-        // Get internship and user
-        Internship internship = internshipRepository.findById(internshipId)
+        try (InputStream content = file.getInputStream()) {
+            return storeDocument(internshipId, file.getOriginalFilename(), file.getContentType(), content,
+                    documentType, description, userId);
+        }
+    }
+
+    @Override
+    public DocumentResponse uploadDocumentStream(Long internshipId, String originalFileName,
+            String contentType, long contentLength, InputStream content,
+            DocumentType documentType, String description,
+            Long userId) throws IOException {
+        if (originalFileName == null || originalFileName.isBlank()) {
+            throw new IllegalArgumentException("File name is required");
+        }
+
+        if (!validateFileType(contentType)) {
+            throw new IllegalArgumentException("Invalid file type: " + contentType);
+        }
+
+        // Reject a declared oversize body up front; undeclared lengths are
+        // limited while reading
+        if (contentLength >= 0 && !validateFileSize(contentLength)) {
+            throw new IllegalArgumentException("File size exceeds maximum limit of "
+                    + (maxFileSize / 1024 / 1024) + "MB");
+        }
+
+        return storeDocument(internshipId, originalFileName, contentType, content,
+                documentType, description, userId);
+    }
+
+    /**
+     * Read the body once: magic bytes are checked on the first block, the size
+     * limit is enforced while reading, and the content is hashed while it is
+     * written to the storage staging area. Only then is a transaction opened
+     * to publish the blob and create the document row.
+     */
+    private DocumentResponse storeDocument(Long internshipId, String originalFileName,
+            String contentType, InputStream content, DocumentType documentType,
+            String description, Long userId) throws IOException {
+        DocumentBlobService.StagedContent staged = documentBlobService.stage(
+                UploadContentSniffer.inspect(content, contentType, maxFileSize));
+        try {
+            return transactionTemplate.execute(status -> createDocument(internshipId, originalFileName,
+                    contentType, staged, documentType, description, userId));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            documentBlobService.discard(staged);
+        }
+    }
+
+    private DocumentResponse createDocument(Long internshipId, String originalFileName,
+            String contentType, DocumentBlobService.StagedContent staged, DocumentType documentType,
+            String description, Long userId) {
+        // Get internship (row-locked: serializes version allocation for
+        // concurrent uploads to it) and user
+        Internship internship = internshipRepository.findByIdForUpdate(internshipId)
                 .orElseThrow(() -> new ResourceNotFoundException("Internship", "id", internshipId));
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
-        // Check if this is a new version of existing document
-        String originalFileName = file.getOriginalFilename();
-        Integer version = documentRepository.findLatestVersion(originalFileName, internship)
-                .map(v -> v + 1)
-                .orElse(1);
-
-        // If version > 1, mark previous version as not latest
-        if (version > 1) {
-            List<Document> previousVersions = documentRepository
-                    .findVersionHistory(originalFileName, internship);
-            for (Document prev : previousVersions) {
-                if (prev.getIsLatestVersion()) {
-                    prev.setIsLatestVersion(false);
-                    documentRepository.save(prev);
-                }
-            }
+        // Allocate the next version of this file and demote the current one
+        Optional<Document> previousVersion = documentRepository
+                .findFirstByInternshipAndOriginalFileNameOrderByVersionDesc(internship, originalFileName);
+        int version = previousVersion.map(d -> d.getVersion() + 1).orElse(1);
+        if (previousVersion.isPresent()) {
+            documentRepository.clearLatestVersion(internship, originalFileName);
         }
 
         // Generate unique filename
         String fileExtension = getFileExtension(originalFileName);
         String uniqueFileName = UUID.randomUUID().toString() + "_v" + version + fileExtension;
 
-        // Create upload directory if not exists
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+        // Store content once per distinct hash (identical re-uploads share a blob)
+        DocumentBlobService.StoredBlob stored;
+        try {
+            stored = documentBlobService.publish(staged);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
 
-        // Save file
-        Path filePath = uploadPath.resolve(uniqueFileName);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
         // Create document entity
         Document document = new Document();
         document.setInternship(internship);
         document.setUploadedBy(user);
         document.setFileName(uniqueFileName);
         document.setOriginalFileName(originalFileName);
-        document.setFilePath(filePath.toString());
-        document.setFileSize(file.getSize());
-        document.setContentType(file.getContentType());
+        document.setFilePath(stored.storagePath());
+        document.setFileSize(stored.size());
+        document.setContentType(contentType);
+        document.setContentHash(stored.contentHash());
+        document.setBlob(stored.blob());
         document.setDocumentType(documentType);
         document.setVersion(version);
         document.setDescription(description);
         document.setIsLatestVersion(true);
+        document.setScanStatus(Document.ScanStatus.PENDING);
 
-        // Set previous version reference if exists
-        if (version > 1) {
-            documentRepository.findVersionHistory(originalFileName, internship).stream()
-                    .filter(d -> d.getVersion().equals(version - 1))
-                    .findFirst()
-                    .ifPresent(document::setPreviousVersion);
-        }
+        previousVersion.ifPresent(document::setPreviousVersion);
 
         document = documentRepository.save(document);
 
@@ -169,6 +214,10 @@ public class DocumentServiceImpl implements DocumentService {
             );
         }
 
+        // Scanned (then previewed) in the background once this commits
+        eventPublisher.publishEvent(new DocumentStoredEvent(
+                document.getId(), document.getContentHash(), contentType));
+
         log.info("Document uploaded: {} (version {}) for internship {}",
                 originalFileName, version, internshipId);
 
@@ -176,7 +225,6 @@ public class DocumentServiceImpl implements DocumentService {
     }
 
     @Override
-    @Transactional
     public DocumentResponse uploadNewVersion(Long internshipId, String originalFileName,
             MultipartFile file, String description,
             Long userId) throws IOException {
@@ -216,6 +264,17 @@ public class DocumentServiceImpl implements DocumentService {
         return mapToResponse(document);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public DocumentResponse getLatestReport(Long internshipId) {
+        Document document = documentRepository
+                .findFirstByInternshipIdAndDocumentTypeAndIsLatestVersionTrueOrderByCreatedAtDesc(
+                        internshipId, DocumentType.REPORT)
+                .orElseThrow(() -> new ResourceNotFoundException("Report", "internshipId", internshipId));
+
+        return mapToResponse(document);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public DocumentHistoryResponse getDocumentHistory(Long internshipId, String originalFileName) {
@@ -259,36 +318,12 @@ public class DocumentServiceImpl implements DocumentService {
         return response;
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public Resource downloadDocument(Long documentId) throws IOException {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
-
-        Path filePath = Paths.get(document.getFilePath());
-        Resource resource = new UrlResource(filePath.toUri());
-
-        if (resource.exists() && resource.isReadable()) {
-            return resource;
-        } else {
-            throw new IOException("File not found or not readable: " + document.getFileName());
-        }
-    }
-
     @Override
     @Transactional
     public void deleteDocument(Long documentId, Long userId) {
         Document document = documentRepository.findById(documentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document", "id", documentId));
 
-        // Delete file from filesystem
-        try {
-            Path filePath = Paths.get(document.getFilePath());
-            Files.deleteIfExists(filePath);
-        } catch (IOException e) {
-            log.error("Failed to delete file: {}", document.getFilePath(), e);
-        }
-
         // Log activity before deletion
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
@@ -302,6 +337,20 @@ public class DocumentServiceImpl implements DocumentService {
         );
 
         documentRepository.delete(document);
+
+        if (document.getBlob() != null) {
+            // The row must be gone before the blob can drop its last reference
+            documentRepository.flush();
+            documentBlobService.release(document.getBlob());
+        } else {
+            // Legacy document that owns its file
+            try {
+                Files.deleteIfExists(Paths.get(document.getFilePath()));
+            } catch (IOException e) {
+                log.error("Failed to delete file: {}", document.getFilePath(), e);
+            }
+        }
+
         log.info("Document deleted: {} (version {})", document.getOriginalFileName(), document.getVersion());
     }
 
@@ -367,6 +416,7 @@ public class DocumentServiceImpl implements DocumentService {
                 ? document.getPreviousVersion().getId() : null);
         response.setCreatedAt(document.getCreatedAt());
         response.setDownloadUrl("/api/documents/" + document.getId() + "/download");
+        response.setScanStatus(document.getScanStatus());
         return response;
     }
 }
@@ -1,11 +1,18 @@
 package com.internhub.service.impl;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -13,12 +20,16 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.internhub.cache.InternshipSearchCache;
+import com.internhub.cache.SectorRoutingTable;
 import com.internhub.dto.BulkOperationRequest;
 import com.internhub.dto.BulkOperationResponse;
 import com.internhub.dto.InternshipRequest;
 import com.internhub.dto.InternshipResponse;
 import com.internhub.dto.InternshipSearchRequest;
 import com.internhub.dto.RefusalRequest;
+import com.internhub.event.InternshipChangedEvent;
+import com.internhub.exception.BusinessException;
 import com.internhub.model.Internship;
 import com.internhub.model.InternshipStatus;
 import com.internhub.model.Role;
@@ -29,8 +40,11 @@ import com.internhub.repository.SectorRepository;
 import com.internhub.repository.UserRepository;
 import com.internhub.service.ActivityLogService;
 import com.internhub.service.EmailService;
+import com.internhub.service.InternshipAssignmentService;
 import com.internhub.service.InternshipService;
 import com.internhub.service.NotificationService;
+import com.internhub.service.UserLookupService;
+import com.internhub.specification.InternshipSortRegistry;
 import com.internhub.specification.InternshipSpecification;
 
 /**
@@ -49,19 +63,34 @@ public class InternshipServiceImpl implements InternshipService {
     private final EmailService emailService;
     private final NotificationService notificationService;
     private final ActivityLogService activityLogService;
+    private final UserLookupService userLookupService;
+    private final SectorRoutingTable sectorRoutingTable;
+    private final InternshipAssignmentService assignmentService;
+    private final InternshipSearchCache searchCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public InternshipServiceImpl(InternshipRepository internshipRepository,
             UserRepository userRepository,
             SectorRepository sectorRepository,
             EmailService emailService,
             NotificationService notificationService,
-            ActivityLogService activityLogService) {
+            ActivityLogService activityLogService,
+            UserLookupService userLookupService,
+            SectorRoutingTable sectorRoutingTable,
+            InternshipAssignmentService assignmentService,
+            InternshipSearchCache searchCache,
+            ApplicationEventPublisher eventPublisher) {
         this.internshipRepository = internshipRepository;
         this.userRepository = userRepository;
         this.sectorRepository = sectorRepository;
         this.emailService = emailService;
         this.notificationService = notificationService;
         this.activityLogService = activityLogService;
+        this.userLookupService = userLookupService;
+        this.sectorRoutingTable = sectorRoutingTable;
+        this.assignmentService = assignmentService;
+        this.searchCache = searchCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -84,6 +113,7 @@ public class InternshipServiceImpl implements InternshipService {
         internship.setStatus(InternshipStatus.DRAFT);
 
         Internship saved = internshipRepository.save(internship);
+        eventPublisher.publishEvent(InternshipChangedEvent.of(saved));
 
         // Log activity
         activityLogService.logActivity(student.getEmail(), ActivityLogService.ACTION_INTERNSHIP_CREATE,
@@ -110,6 +140,7 @@ public class InternshipServiceImpl implements InternshipService {
 
         Sector sector = sectorRepository.findById(request.getSectorId())
                 .orElseThrow(() -> new RuntimeException("Sector not found"));
+        Long previousSectorId = internship.getSector().getId();
 
         internship.setTitle(request.getTitle());
         internship.setDescription(request.getDescription());
@@ -120,6 +151,7 @@ public class InternshipServiceImpl implements InternshipService {
         internship.setSector(sector);
 
         Internship updated = internshipRepository.save(internship);
+        eventPublisher.publishEvent(InternshipChangedEvent.of(updated, previousSectorId, null));
         return mapToResponse(updated);
     }
 
@@ -134,28 +166,38 @@ public class InternshipServiceImpl implements InternshipService {
         }
 
         // Business logic: Use domain method for status transition
+        InternshipStatus previousStatus = internship.getStatus();
         internship.submit();
 
-        // Multi-instructor notification: Notify ALL instructors in the sector
-        List<User> instructors = userRepository.findByRoleAndSectorsContaining(Role.INSTRUCTOR, internship.getSector());
-        if (!instructors.isEmpty()) {
-            String studentName = internship.getStudent().getFirstName() + " " + internship.getStudent().getLastName();
-
-            // Send email and notification to ALL instructors in the sector
-            for (User instructor : instructors) {
-                emailService.sendInternshipSubmittedEmail(
-                        instructor.getEmail(),
-                        studentName,
-                        internship.getTitle()
-                );
-                notificationService.notifyInternshipSubmitted(internship);
-            }
-
-            // Don't assign instructor yet - let them claim it
+        if (assignmentService.isEnabled()) {
+            // Load-balanced assignment: one instructor gets it (and the
+            // notification) once the submission has committed
             internship.setInstructor(null);
+            assignmentService.assignAfterCommit(internship.getId(), internship.getSector().getId());
+        } else {
+            // Multi-instructor notification: Notify ALL instructors in the sector
+            long[] instructorIds = sectorRoutingTable.instructorsOf(internship.getSector().getId());
+            if (instructorIds.length > 0) {
+                String studentName = internship.getStudent().getFirstName() + " " + internship.getStudent().getLastName();
+
+                // Send email and notification to ALL instructors in the sector
+                for (long instructorId : instructorIds) {
+                    userLookupService.getInstructorContact(instructorId).ifPresent(instructor ->
+                            emailService.sendInternshipSubmittedEmail(
+                                    instructor.getEmail(),
+                                    studentName,
+                                    internship.getTitle()
+                            ));
+                    notificationService.notifyInternshipSubmitted(internship);
+                }
+
+                // Don't assign instructor yet - let them claim it
+                internship.setInstructor(null);
+            }
         }
 
         Internship updated = internshipRepository.save(internship);
+        eventPublisher.publishEvent(InternshipChangedEvent.of(updated, null, previousStatus));
 
         return mapToResponse(updated);
     }
@@ -192,14 +234,15 @@ public class InternshipServiceImpl implements InternshipService {
     @Override
     @Transactional(readOnly = true)
     public List<InternshipResponse> getAvailableInternshipsForInstructor(Long instructorId) {
-        User instructor = userRepository.findById(instructorId)
-                .orElseThrow(() -> new RuntimeException("Instructor not found"));
+        if (!userRepository.existsById(instructorId)) {
+            throw new RuntimeException("Instructor not found");
+        }
 
         // Get all PENDING_VALIDATION internships with no assigned instructor in instructor's sectors
         return internshipRepository.findAll().stream()
                 .filter(internship -> internship.getStatus() == InternshipStatus.PENDING_VALIDATION)
                 .filter(internship -> internship.getInstructor() == null)
-                .filter(internship -> instructor.getSectors().contains(internship.getSector()))
+                .filter(internship -> sectorRoutingTable.covers(instructorId, internship.getSector().getId()))
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
@@ -207,34 +250,32 @@ public class InternshipServiceImpl implements InternshipService {
     @Override
     @Transactional
     public InternshipResponse claimInternship(Long id, Long instructorId) {
-        Internship internship = internshipRepository.findById(id)
+        Long sectorId = internshipRepository.findSectorIdById(id)
                 .orElseThrow(() -> new RuntimeException("Internship not found"));
 
-        User instructor = userRepository.findById(instructorId)
-                .orElseThrow(() -> new RuntimeException("Instructor not found"));
-
-        // Business rules validation
-        if (internship.getStatus() != InternshipStatus.PENDING_VALIDATION) {
-            throw new RuntimeException("Internship is not pending validation");
+        if (!userRepository.hasSector(instructorId, sectorId)) {
+            throw new RuntimeException("Unauthorized: Sector not assigned to you");
         }
 
-        if (internship.getInstructor() != null) {
-            throw new RuntimeException("Internship has already been claimed by another instructor");
+        // Claim the internship: a single conditional UPDATE decides the winner
+        // among concurrent claims, the losers fail here without loading anything
+        int claimed = internshipRepository.claimIfUnassigned(id, userRepository.getReferenceById(instructorId),
+                InternshipStatus.PENDING_VALIDATION, LocalDateTime.now());
+        if (claimed == 0) {
+            throw new BusinessException(
+                    "Internship has already been claimed by another instructor or is no longer pending validation");
         }
 
-        if (!instructor.getSectors().contains(internship.getSector())) {
-            throw new RuntimeException("Unauthorized: Sector not assigned to you");
-        }
-
-        // Claim the internship
-        internship.setInstructor(instructor);
-        Internship updated = internshipRepository.save(internship);
+        Internship updated = internshipRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Internship not found"));
+        User instructor = updated.getInstructor();
+        eventPublisher.publishEvent(InternshipChangedEvent.of(updated));
 
         // Send confirmation email and notification to student
         emailService.sendInternshipSubmittedEmail(
                 instructor.getEmail(),
-                internship.getStudent().getFirstName() + " " + internship.getStudent().getLastName(),
-                internship.getTitle()
+                updated.getStudent().getFirstName() + " " + updated.getStudent().getLastName(),
+                updated.getTitle()
         );
 
         notificationService.notifyInternshipClaimed(updated);
@@ -257,14 +298,18 @@ public class InternshipServiceImpl implements InternshipService {
                 .orElseThrow(() -> new RuntimeException("Instructor not found"));
 
         // Business rule: Instructor must have the sector assigned
-        if (!instructor.getSectors().contains(internship.getSector())) {
+        if (!userRepository.hasSector(instructorId, internship.getSector().getId())) {
             throw new RuntimeException("Unauthorized: Sector not assigned to you");
         }
 
         // Business logic: Use domain method for validation
+        InternshipStatus previousStatus = internship.getStatus();
+        Long assigneeId = internship.getInstructor() != null ? internship.getInstructor().getId() : null;
         internship.validate(instructor);
+        assignmentService.releasedAfterCommit(assigneeId);
 
         Internship updated = internshipRepository.save(internship);
+        eventPublisher.publishEvent(InternshipChangedEvent.of(updated, null, previousStatus));
 
         // Send email notification and in-app notification to student
         emailService.sendInternshipValidatedEmail(
@@ -294,14 +339,19 @@ public class InternshipServiceImpl implements InternshipService {
                 .orElseThrow(() -> new RuntimeException("Instructor not found"));
 
         // Business rule: Instructor must have the sector assigned
-        if (!instructor.getSectors().contains(internship.getSector())) {
+        if (!userRepository.hasSector(instructorId, internship.getSector().getId())) {
             throw new RuntimeException("Unauthorized: Sector not assigned to you");
         }
 
         // Business logic: Use domain method for refusal
+        InternshipStatus previousStatus = internship.getStatus();
         internship.refuse(refusalRequest.getRefusalComment());
+        if (internship.getInstructor() != null) {
+            assignmentService.releasedAfterCommit(internship.getInstructor().getId());
+        }
 
         Internship updated = internshipRepository.save(internship);
+        eventPublisher.publishEvent(InternshipChangedEvent.of(updated, null, previousStatus));
 
         // Send email notification and in-app notification to student
         emailService.sendInternshipRefusedEmail(
@@ -342,10 +392,11 @@ public class InternshipServiceImpl implements InternshipService {
 
     @Override
     public void deleteInternship(Long id) {
-        if (!internshipRepository.existsById(id)) {
-            throw new RuntimeException("Internship not found");
-        }
-        internshipRepository.deleteById(id);
+        Internship internship = internshipRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Internship not found"));
+        InternshipChangedEvent event = InternshipChangedEvent.of(internship);
+        internshipRepository.delete(internship);
+        eventPublisher.publishEvent(event);
     }
 
     @Override
@@ -362,6 +413,7 @@ public class InternshipServiceImpl implements InternshipService {
 
         internship.setInstructor(instructor);
         Internship updated = internshipRepository.save(internship);
+        eventPublisher.publishEvent(InternshipChangedEvent.of(updated));
 
         // Send email notification to student
         emailService.sendInstructorReassignedEmail(
@@ -496,10 +548,11 @@ public class InternshipServiceImpl implements InternshipService {
                 searchRequest.getEndDateTo()
         );
 
-        // Build pageable with sorting
-        Sort sort = "DESC".equalsIgnoreCase(searchRequest.getSortDirection())
-                ? Sort.by(searchRequest.getSortBy()).descending()
-                : Sort.by(searchRequest.getSortBy()).ascending();
+        // Build pageable with whitelisted, index-backed sorting
+        Sort sort = InternshipSortRegistry.resolve(
+                searchRequest.getSortBy(),
+                searchRequest.getSortDirection()
+        );
 
         Pageable pageable = PageRequest.of(
                 searchRequest.getPage(),
@@ -507,11 +560,30 @@ public class InternshipServiceImpl implements InternshipService {
                 sort
         );
 
-        // Execute query
-        Page<Internship> internshipPage = internshipRepository.findAll(spec, pageable);
+        // Serve the id page from the result cache when possible; on a miss the
+        // entities loaded by the query are mapped directly
+        Map<Long, Internship> loaded = new HashMap<>();
+        InternshipSearchCache.IdPage idPage = searchCache.get(searchRequest, key -> {
+            Page<Internship> internshipPage = internshipRepository.findAll(spec, pageable);
+            internshipPage.forEach(internship -> loaded.put(internship.getId(), internship));
+            return new InternshipSearchCache.IdPage(
+                    internshipPage.map(Internship::getId).getContent(),
+                    internshipPage.getTotalElements());
+        });
+
+        if (loaded.isEmpty() && !idPage.ids().isEmpty()) {
+            loaded.putAll(internshipRepository.findAllById(idPage.ids()).stream()
+                    .collect(Collectors.toMap(Internship::getId, Function.identity())));
+        }
+
+        // Preserve the cached order; ids deleted since caching are skipped
+        List<InternshipResponse> content = idPage.ids().stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
 
-        // Map to response DTOs
-        return internshipPage.map(this::mapToResponse);
+        return new PageImpl<>(content, pageable, idPage.totalElements());
     }
 
     @Override
@@ -527,6 +599,7 @@ public class InternshipServiceImpl implements InternshipService {
             try {
                 Internship internship = internshipRepository.findById(internshipId)
                         .orElseThrow(() -> new RuntimeException("Internship not found: " + internshipId));
+                InternshipStatus previousStatus = internship.getStatus();
 
                 boolean success = false;
                 String message = "";
@@ -642,6 +715,7 @@ public class InternshipServiceImpl implements InternshipService {
 
                 results.add(new BulkOperationResponse.OperationResult(internshipId, success, message));
                 if (success) {
+                    eventPublisher.publishEvent(InternshipChangedEvent.of(internship, null, previousStatus));
                     successCount++;
                 } else {
                     failureCount++;
@@ -1,8 +1,14 @@
 package com.internhub.service.impl;
 
+import com.internhub.cache.CacheNames;
+import com.internhub.cache.SectorRoutingTable;
 import com.internhub.model.Sector;
 import com.internhub.repository.SectorRepository;
+import com.internhub.service.SecondLevelCacheService;
 import com.internhub.service.SectorService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,18 +16,29 @@ import java.util.List;
 
 /**
  * Implementation of SectorService. Follows SRP: Manages only sector operations.
+ * Read paths are served from the reference data cache; every write evicts the
+ * sector caches, including the Hibernate second-level cache.
  */
 @Service
 @Transactional
 public class SectorServiceImpl implements SectorService {
 
     private final SectorRepository sectorRepository;
+    private final SecondLevelCacheService secondLevelCacheService;
+    private final SectorRoutingTable sectorRoutingTable;
 
-    public SectorServiceImpl(SectorRepository sectorRepository) {
+    public SectorServiceImpl(SectorRepository sectorRepository, SecondLevelCacheService secondLevelCacheService,
+            SectorRoutingTable sectorRoutingTable) {
         this.sectorRepository = sectorRepository;
+        this.secondLevelCacheService = secondLevelCacheService;
+        this.sectorRoutingTable = sectorRoutingTable;
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.SECTORS, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.SECTOR_BY_NAME, allEntries = true)
+    })
     public Sector createSector(Sector sector) {
         if (sectorRepository.existsByNameIgnoreCase(sector.getName())) {
             throw new RuntimeException("Sector with name '" + sector.getName() + "' already exists");
@@ -30,6 +47,10 @@ public class SectorServiceImpl implements SectorService {
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.SECTORS, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.SECTOR_BY_NAME, allEntries = true)
+    })
     public Sector updateSector(Long id, Sector sector) {
         Sector existing = sectorRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Sector not found"));
@@ -43,15 +64,24 @@ public class SectorServiceImpl implements SectorService {
         existing.setName(sector.getName());
         existing.setDescription(sector.getDescription());
 
-        return sectorRepository.save(existing);
+        Sector saved = sectorRepository.save(existing);
+        secondLevelCacheService.evictSector(id);
+        return saved;
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.SECTORS, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.SECTOR_BY_NAME, allEntries = true)
+    })
     public void deleteSector(Long id) {
         if (!sectorRepository.existsById(id)) {
             throw new RuntimeException("Sector not found");
         }
         sectorRepository.deleteById(id);
+        // Cached instructor sector sets may still reference it
+        secondLevelCacheService.evictAllSectors();
+        sectorRoutingTable.removeSector(id);
     }
 
     @Override
@@ -63,11 +93,13 @@ public class SectorServiceImpl implements SectorService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.SECTORS, key = "'all'")
     public List<Sector> getAllSectors() {
         return sectorRepository.findAll();
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.SECTOR_BY_NAME, key = "#name.toLowerCase()")
     public Sector getSectorByName(String name) {
         return sectorRepository.findByNameIgnoreCase(name)
                 .orElseThrow(() -> new RuntimeException("Sector not found: " + name));
@@ -1,5 +1,6 @@
 package com.internhub.service.impl;
 
+import com.internhub.cache.CacheNames;
 import com.internhub.dto.*;
 import com.internhub.model.Internship;
 import com.internhub.model.InternshipStatus;
@@ -7,6 +8,8 @@ import com.internhub.model.Role;
 import com.internhub.repository.InternshipRepository;
 import com.internhub.repository.UserRepository;
 import com.internhub.service.StatisticsService;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -70,7 +73,18 @@ public class StatisticsServiceImpl implements StatisticsService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheNames.ENHANCED_STATISTICS, key = "'all'")
     public EnhancedStatisticsResponse getEnhancedStatistics() {
+        return computeEnhancedStatistics();
+    }
+
+    @Override
+    @CachePut(cacheNames = CacheNames.ENHANCED_STATISTICS, key = "'all'")
+    public EnhancedStatisticsResponse refreshEnhancedStatistics() {
+        return computeEnhancedStatistics();
+    }
+
+    private EnhancedStatisticsResponse computeEnhancedStatistics() {
         EnhancedStatisticsResponse response = new EnhancedStatisticsResponse();
 
         // Overview metrics
@@ -0,0 +1,133 @@
+package com.internhub.service.impl;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Upload stream checks shared by the multipart and streaming upload paths: the
+ * declared content type must agree with the magic bytes of the first block,
+ * and the size limit is enforced while the body is read instead of after it
+ * has been buffered.
+ */
+final class UploadContentSniffer {
+
+    /**
+     * Bytes inspected for the file signature (and for NUL bytes in text).
+     */
+    static final int SNIFF_BLOCK_SIZE = 8192;
+
+    private static final byte[] PDF = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] OLE2 = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0,
+        (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+    private static final byte[] ZIP = {'P', 'K', 0x03, 0x04};
+
+    /**
+     * Private constructor to prevent instantiation (utility class).
+     */
+    private UploadContentSniffer() {
+    }
+
+    /**
+     * Wrap an upload body: peek at the first block and reject it if it is
+     * empty or does not look like the declared type, then return a stream that
+     * replays the block and fails once more than maxSize bytes are read.
+     */
+    static InputStream inspect(InputStream body, String contentType, long maxSize) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(body, SNIFF_BLOCK_SIZE);
+        in.mark(SNIFF_BLOCK_SIZE);
+        byte[] header = in.readNBytes(SNIFF_BLOCK_SIZE);
+        in.reset();
+
+        if (header.length == 0) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        if (!matches(contentType, header)) {
+            throw new IllegalArgumentException("File content does not match declared type: " + contentType);
+        }
+        return new SizeLimitedInputStream(in, maxSize);
+    }
+
+    /**
+     * Whether the first bytes of a file are consistent with its content type.
+     */
+    static boolean matches(String contentType, byte[] header) {
+        if (contentType == null) {
+            return false;
+        }
+        switch (contentType.toLowerCase(Locale.ROOT)) {
+            case "application/pdf":
+                return startsWith(header, PDF);
+            case "image/png":
+                return startsWith(header, PNG);
+            case "image/jpeg":
+                return startsWith(header, JPEG);
+            case "application/msword":
+            case "application/vnd.ms-excel":
+                return startsWith(header, OLE2);
+            case "application/vnd.openxmlformats-officedocument.wordprocessingml.document":
+            case "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet":
+                return startsWith(header, ZIP);
+            case "text/plain":
+                for (byte b : header) {
+                    if (b == 0) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean startsWith(byte[] data, byte[] prefix) {
+        return data.length >= prefix.length
+                && Arrays.equals(data, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    /**
+     * Stream that throws as soon as more than a given number of bytes has been
+     * read, so an oversized body is rejected without reading it to the end.
+     */
+    private static class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long maxSize;
+        private long count;
+
+        SizeLimitedInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            count += n;
+            if (count > maxSize) {
+                throw new IllegalArgumentException("File size exceeds maximum limit of "
+                        + (maxSize / 1024 / 1024) + "MB");
+            }
+        }
+    }
+}
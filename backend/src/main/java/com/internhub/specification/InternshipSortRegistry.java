@@ -0,0 +1,68 @@
+package com.internhub.specification;
+
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Whitelist of sort keys accepted by the internship search. Each public key is
+ * mapped to an entity property backed by an index on the internships table
+ * (see the indexes declared on {@link com.internhub.model.Internship}), so a
+ * client can no longer request an unindexed or nested ORDER BY.
+ *
+ * Every sort gets a secondary "id" order in the same direction to keep
+ * pagination stable when the primary key has duplicates. Unknown keys fall back
+ * to {@link #DEFAULT_SORT_KEY} and unknown directions to descending.
+ */
+public final class InternshipSortRegistry {
+
+    public static final String DEFAULT_SORT_KEY = "createdAt";
+    public static final Sort.Direction DEFAULT_DIRECTION = Sort.Direction.DESC;
+
+    private static final String TIE_BREAKER = "id";
+
+    /**
+     * Public sort key (case-insensitive) -> indexed entity property.
+     */
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "createdat", "createdAt",
+            "startdate", "startDate",
+            "enddate", "endDate",
+            "status", "status",
+            "companyname", "companyName"
+    );
+
+    /**
+     * Private constructor to prevent instantiation (utility class).
+     */
+    private InternshipSortRegistry() {
+    }
+
+    /**
+     * Resolve a client-supplied sort key and direction into a safe Sort.
+     */
+    public static Sort resolve(String sortBy, String sortDirection) {
+        Sort.Direction direction = resolveDirection(sortDirection);
+        return Sort.by(new Sort.Order(direction, resolveProperty(sortBy)),
+                new Sort.Order(direction, TIE_BREAKER));
+    }
+
+    /**
+     * Map a sort key to its indexed property, or the default key if it is not
+     * whitelisted.
+     */
+    public static String resolveProperty(String sortBy) {
+        if (sortBy == null) {
+            return DEFAULT_SORT_KEY;
+        }
+        return SORTABLE_PROPERTIES.getOrDefault(sortBy.trim().toLowerCase(Locale.ROOT), DEFAULT_SORT_KEY);
+    }
+
+    /**
+     * Parse a sort direction, defaulting to descending.
+     */
+    public static Sort.Direction resolveDirection(String sortDirection) {
+        return Sort.Direction.fromOptionalString(sortDirection).orElse(DEFAULT_DIRECTION);
+    }
+}
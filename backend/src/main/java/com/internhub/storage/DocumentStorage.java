@@ -0,0 +1,72 @@
+package com.internhub.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Backend that holds document blobs, addressed by an opaque key (the content
+ * hash). Implementations must make a blob visible atomically: a reader sees
+ * either nothing or the complete content under a key, never a partial write.
+ *
+ * Follows DIP: the blob store and download path depend on this abstraction,
+ * the backend is chosen by configuration (app.storage.type).
+ */
+public interface DocumentStorage {
+
+    /**
+     * Store content under a key, streaming it from the input. The size must be
+     * exact; backends use it to choose between a single and a multipart put.
+     */
+    void put(String key, InputStream content, long size) throws IOException;
+
+    /**
+     * Write content of unknown length to the staging area in a single pass,
+     * close to its final location. Lets callers hash the stream while it is
+     * written and decide the key afterwards. Partially staged content is
+     * cleaned up if reading the input fails.
+     */
+    StagedBlob stage(InputStream content) throws IOException;
+
+    /**
+     * Publish staged content under its key (a rename or server-side copy, not
+     * a second upload).
+     */
+    void commit(StagedBlob staged, String key) throws IOException;
+
+    /**
+     * Drop staged content that will not be published. Never throws.
+     */
+    void discard(StagedBlob staged);
+
+    /**
+     * Open the whole blob for streaming.
+     */
+    InputStream get(String key) throws IOException;
+
+    /**
+     * Open a byte range of the blob for streaming.
+     */
+    InputStream get(String key, long offset, long length) throws IOException;
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * Remove a blob. Missing keys are ignored.
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * The blob as a local file, when the backend keeps it on the local
+     * filesystem; lets downloads use zero-copy transfers.
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * Human-readable location of a blob (path or URI), recorded for operators.
+     */
+    String location(String key);
+}
@@ -0,0 +1,189 @@
+package com.internhub.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local filesystem storage with a two-level hash fan-out: key "abcdef..." is
+ * stored at root/ab/cd/abcdef..., so no directory holds more than a few
+ * hundred entries even with millions of blobs. Writes go to a temp file (in
+ * the target directory, or root/.staging for staged uploads) and are
+ * atomically renamed into place.
+ *
+ * Blobs written before sharding (flat under root) are still found.
+ */
+@Slf4j
+public class LocalDocumentStorage implements DocumentStorage {
+
+    private final Path root;
+    private final Path stagingDir;
+
+    public LocalDocumentStorage(String root) {
+        this.root = Paths.get(root).toAbsolutePath();
+        this.stagingDir = this.root.resolve(".staging");
+    }
+
+    @Override
+    public void put(String key, InputStream content, long size) throws IOException {
+        Path target = shardedPath(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), key, ".part");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Stage into root/.staging, on the same filesystem as the blobs, so that
+     * {@link #commit} is a rename.
+     */
+    @Override
+    public StagedBlob stage(InputStream content) throws IOException {
+        Files.createDirectories(stagingDir);
+        Path temp = Files.createTempFile(stagingDir, "upload-", ".part");
+        try {
+            long size = Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            return new StagedBlob(temp.toString(), size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    @Override
+    public void commit(StagedBlob staged, String key) throws IOException {
+        Path target = shardedPath(key);
+        Files.createDirectories(target.getParent());
+        Files.move(Paths.get(staged.reference()), target,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void discard(StagedBlob staged) {
+        try {
+            Files.deleteIfExists(Paths.get(staged.reference()));
+        } catch (IOException e) {
+            log.warn("Failed to delete staged upload {}", staged.reference(), e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        return Files.newInputStream(existingPath(key));
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) throws IOException {
+        FileChannel channel = FileChannel.open(existingPath(key), StandardOpenOption.READ);
+        channel.position(offset);
+        return new BoundedInputStream(Channels.newInputStream(channel), length);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(shardedPath(key)) || Files.exists(root.resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(shardedPath(key));
+        Files.deleteIfExists(root.resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.ofNullable(existingPathOrNull(key));
+    }
+
+    @Override
+    public String location(String key) {
+        return shardedPath(key).toString();
+    }
+
+    private Path shardedPath(String key) {
+        if (key.length() < 4) {
+            return root.resolve(key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private Path existingPath(String key) throws IOException {
+        Path path = existingPathOrNull(key);
+        if (path == null) {
+            throw new IOException("Blob not found: " + key);
+        }
+        return path;
+    }
+
+    private Path existingPathOrNull(String key) {
+        Path sharded = shardedPath(key);
+        if (Files.exists(sharded)) {
+            return sharded;
+        }
+        Path flat = root.resolve(key);
+        return Files.exists(flat) ? flat : null;
+    }
+
+    /**
+     * Input stream that ends after a fixed number of bytes.
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.internhub.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Storage in an S3-compatible bucket. Blobs above the multipart threshold are
+ * uploaded in fixed-size parts, so only one part is buffered in memory at a
+ * time; a failed multipart upload is aborted so no orphaned parts are billed.
+ * Range reads are served by the object store (Range GET). Staged uploads go
+ * to a staging prefix and are published with a server-side copy.
+ *
+ * SDK exceptions are rethrown as IOException, like local I/O errors.
+ */
+@Slf4j
+public class S3DocumentStorage implements DocumentStorage {
+
+    private static final String STAGING_PREFIX = "staging/";
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String keyPrefix;
+    private final long multipartThreshold;
+    private final int partSize;
+
+    public S3DocumentStorage(S3Client s3, String bucket, String keyPrefix,
+            long multipartThreshold, int partSize) {
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.keyPrefix = keyPrefix != null ? keyPrefix : "";
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = partSize;
+    }
+
+    @Override
+    public void put(String key, InputStream content, long size) throws IOException {
+        try {
+            if (size < multipartThreshold) {
+                s3.putObject(putRequest(objectKey(key), size), RequestBody.fromInputStream(content, size));
+            } else {
+                byte[] buffer = new byte[partSize];
+                putMultipart(objectKey(key), content, buffer, readUpTo(content, buffer));
+            }
+        } catch (SdkException e) {
+            throw new IOException("Failed to store blob " + key + " in bucket " + bucket, e);
+        }
+    }
+
+    /**
+     * Stage under a random key below the staging prefix. Content that fits in
+     * one part is sent with a single put, anything larger as a multipart
+     * upload, so the length does not need to be known up front. A bucket
+     * lifecycle rule on the staging prefix should expire objects left behind
+     * by a crash.
+     */
+    @Override
+    public StagedBlob stage(InputStream content) throws IOException {
+        String stagingKey = keyPrefix + STAGING_PREFIX + UUID.randomUUID();
+        try {
+            byte[] buffer = new byte[partSize];
+            int length = readUpTo(content, buffer);
+            if (length < partSize) {
+                s3.putObject(putRequest(stagingKey, length),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+                return new StagedBlob(stagingKey, length);
+            }
+            return new StagedBlob(stagingKey, putMultipart(stagingKey, content, buffer, length));
+        } catch (SdkException e) {
+            throw new IOException("Failed to stage upload in bucket " + bucket, e);
+        }
+    }
+
+    /**
+     * Server-side copy to the final key; the bytes are not uploaded again.
+     */
+    @Override
+    public void commit(StagedBlob staged, String key) throws IOException {
+        try {
+            s3.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket)
+                    .sourceKey(staged.reference())
+                    .destinationBucket(bucket)
+                    .destinationKey(objectKey(key))
+                    .build());
+        } catch (SdkException e) {
+            throw new IOException("Failed to publish blob " + key + " in bucket " + bucket, e);
+        }
+        discard(staged);
+    }
+
+    @Override
+    public void discard(StagedBlob staged) {
+        try {
+            s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(staged.reference()).build());
+        } catch (SdkException e) {
+            log.warn("Failed to delete staged upload {}", staged.reference(), e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key) throws IOException {
+        try {
+            return s3.getObject(GetObjectRequest.builder().bucket(bucket).key(objectKey(key)).build());
+        } catch (NoSuchKeyException e) {
+            throw new IOException("Blob not found: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("Failed to read blob " + key + " from bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public InputStream get(String key, long offset, long length) throws IOException {
+        try {
+            return s3.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey(key))
+                    .range("bytes=" + offset + "-" + (offset + length - 1))
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new IOException("Blob not found: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("Failed to read blob " + key + " from bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        try {
+            s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(objectKey(key)).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw new IOException("Failed to look up blob " + key + " in bucket " + bucket, e);
+        } catch (SdkException e) {
+            throw new IOException("Failed to look up blob " + key + " in bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(objectKey(key)).build());
+        } catch (SdkException e) {
+            throw new IOException("Failed to delete blob " + key + " from bucket " + bucket, e);
+        }
+    }
+
+    @Override
+    public String location(String key) {
+        return "s3://" + bucket + "/" + objectKey(key);
+    }
+
+    /**
+     * Upload the stream as parts until it ends. The buffer already holds the
+     * first part.
+     *
+     * @return total number of bytes uploaded
+     */
+    private long putMultipart(String objectKey, InputStream content, byte[] buffer, int firstPartLength)
+            throws IOException {
+        String uploadId = s3.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(objectKey)
+                .build()).uploadId();
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            long total = 0;
+            int length = firstPartLength;
+            int partNumber = 1;
+            while (length > 0) {
+                String etag = s3.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(objectKey)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(etag).build());
+                total += length;
+                partNumber++;
+                length = readUpTo(content, buffer);
+            }
+            s3.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("Stored {} in {} parts", objectKey, parts.size());
+            return total;
+        } catch (IOException | RuntimeException e) {
+            abortQuietly(objectKey, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortQuietly(String objectKey, String uploadId) {
+        try {
+            s3.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (SdkException e) {
+            log.warn("Failed to abort multipart upload {} for {}", uploadId, objectKey, e);
+        }
+    }
+
+    /**
+     * Fill the buffer from the stream, stopping early only at end of stream.
+     *
+     * @return number of bytes read, 0 at end of stream
+     */
+    private static int readUpTo(InputStream in, byte[] buffer) throws IOException {
+        int read = 0;
+        while (read < buffer.length) {
+            int n = in.read(buffer, read, buffer.length - read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return read;
+    }
+
+    private PutObjectRequest putRequest(String objectKey, long size) {
+        return PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(objectKey)
+                .contentLength(size)
+                .build();
+    }
+
+    private String objectKey(String key) {
+        return keyPrefix + key;
+    }
+}
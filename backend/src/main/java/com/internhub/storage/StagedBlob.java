@@ -0,0 +1,12 @@
+package com.internhub.storage;
+
+/**
+ * Content written to a {@link DocumentStorage} staging area but not yet
+ * published under its key.
+ *
+ * @param reference backend-specific handle (temp path, staging object key)
+ * @param size number of bytes staged
+ */
+public record StagedBlob(String reference, long size) {
+
+}
@@ -0,0 +1,8 @@
+-- DocumentCompactionService keeps the uncompressed original of a compacted
+-- blob until original_delete_after, for downloads that resolved it before the
+-- switch; findOriginalsDueForDeletion only reads the rows still waiting.
+ALTER TABLE document_blobs ADD COLUMN IF NOT EXISTS original_delete_after TIMESTAMP(6);
+
+CREATE INDEX IF NOT EXISTS idx_document_blobs_original_delete_after
+    ON document_blobs (original_delete_after)
+    WHERE original_delete_after IS NOT NULL;
@@ -0,0 +1,44 @@
+-- Content-addressed storage, content scanning and version uniqueness for
+-- documents. IF NOT EXISTS because databases upgraded with ddl-auto=update
+-- before migrations existed may already carry some of these objects.
+
+CREATE TABLE IF NOT EXISTS document_blobs (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content_hash VARCHAR(64) NOT NULL,
+    storage_path VARCHAR(255) NOT NULL,
+    file_size    BIGINT NOT NULL,
+    ref_count    INTEGER NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    compression  VARCHAR(16),
+    stored_size  BIGINT,
+    CONSTRAINT uk_document_blobs_content_hash UNIQUE (content_hash)
+);
+
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS blob_id BIGINT REFERENCES document_blobs (id);
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS scan_status VARCHAR(16);
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS scanned_at TIMESTAMP(6);
+
+-- At most one row per version of a file, even under concurrent uploads.
+-- Duplicate versions left by uploads racing before this constraint existed
+-- make the migration fail; renumber them first.
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_documents_internship_file_version') THEN
+        ALTER TABLE documents ADD CONSTRAINT uk_documents_internship_file_version
+            UNIQUE (internship_id, original_file_name, version);
+    END IF;
+END $$;
+
+-- Reuse of scan verdicts for identical content
+CREATE INDEX IF NOT EXISTS idx_documents_content_hash ON documents (content_hash);
+
+-- Latest-version lookup by internship and type (report download)
+CREATE INDEX IF NOT EXISTS idx_documents_latest_by_type
+    ON documents (internship_id, document_type, created_at DESC)
+    WHERE is_latest_version;
+
+-- Documents waiting for their content scan (scan retry sweep)
+CREATE INDEX IF NOT EXISTS idx_documents_scan_pending
+    ON documents (created_at)
+    WHERE scan_status = 'PENDING';
@@ -0,0 +1,9 @@
+-- Sort keys whitelisted by InternshipSortRegistry, with the id tie-breaker,
+-- and the common filter + default sort combinations.
+CREATE INDEX IF NOT EXISTS idx_internships_created_at_id ON internships (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_internships_start_date_id ON internships (start_date, id);
+CREATE INDEX IF NOT EXISTS idx_internships_end_date_id ON internships (end_date, id);
+CREATE INDEX IF NOT EXISTS idx_internships_status_id ON internships (status, id);
+CREATE INDEX IF NOT EXISTS idx_internships_company_name_id ON internships (company_name, id);
+CREATE INDEX IF NOT EXISTS idx_internships_status_created_at ON internships (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_internships_sector_created_at ON internships (sector_id, created_at, id);
@@ -0,0 +1,151 @@
+-- Schema as previously maintained by Hibernate (ddl-auto=update), before
+-- migrations were introduced. Databases that already existed then are
+-- baselined at this version and skip it (spring.flyway.baseline-on-migrate),
+-- so everything added since belongs in later migrations, never here.
+
+CREATE TABLE sectors (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    code        VARCHAR(20),
+    description VARCHAR(500),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_sectors_name UNIQUE (name),
+    CONSTRAINT uk_sectors_code UNIQUE (code)
+);
+
+CREATE TABLE users (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email                   VARCHAR(255) NOT NULL,
+    password                VARCHAR(255) NOT NULL,
+    first_name              VARCHAR(255) NOT NULL,
+    last_name               VARCHAR(255) NOT NULL,
+    department              VARCHAR(255),
+    role                    VARCHAR(20) NOT NULL,
+    enabled                 BOOLEAN NOT NULL,
+    two_factor_enabled      BOOLEAN NOT NULL,
+    two_factor_secret       VARCHAR(255),
+    created_at              TIMESTAMP(6) NOT NULL,
+    updated_at              TIMESTAMP(6),
+    activation_token        VARCHAR(255),
+    activation_token_expiry TIMESTAMP(6),
+    account_activated       BOOLEAN DEFAULT FALSE,
+    must_change_password    BOOLEAN DEFAULT FALSE,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE instructor_sectors (
+    user_id   BIGINT NOT NULL REFERENCES users (id),
+    sector_id BIGINT NOT NULL REFERENCES sectors (id),
+    PRIMARY KEY (user_id, sector_id)
+);
+
+CREATE TABLE student_profiles (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id        BIGINT NOT NULL REFERENCES users (id),
+    student_number VARCHAR(50),
+    major          VARCHAR(100),
+    academic_year  VARCHAR(20),
+    phone_number   VARCHAR(20),
+    CONSTRAINT uk_student_profiles_user UNIQUE (user_id),
+    CONSTRAINT uk_student_profiles_student_number UNIQUE (student_number)
+);
+
+CREATE TABLE verification_tokens (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token       VARCHAR(255) NOT NULL,
+    user_id     BIGINT NOT NULL REFERENCES users (id),
+    expiry_date TIMESTAMP(6) NOT NULL,
+    type        VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_verification_tokens_user UNIQUE (user_id)
+);
+
+CREATE TABLE internships (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title           VARCHAR(200) NOT NULL,
+    description     TEXT,
+    company_name    VARCHAR(200) NOT NULL,
+    company_address VARCHAR(500),
+    start_date      DATE NOT NULL,
+    end_date        DATE NOT NULL,
+    status          VARCHAR(30) NOT NULL,
+    student_id      BIGINT NOT NULL REFERENCES users (id),
+    instructor_id   BIGINT REFERENCES users (id),
+    sector_id       BIGINT NOT NULL REFERENCES sectors (id),
+    refusal_comment TEXT,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6),
+    submitted_at    TIMESTAMP(6),
+    validated_at    TIMESTAMP(6)
+);
+
+CREATE TABLE documents (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    internship_id       BIGINT NOT NULL REFERENCES internships (id),
+    uploaded_by         BIGINT NOT NULL REFERENCES users (id),
+    file_name           VARCHAR(255) NOT NULL,
+    original_file_name  VARCHAR(255) NOT NULL,
+    file_path           VARCHAR(255) NOT NULL,
+    file_size           BIGINT NOT NULL,
+    content_type        VARCHAR(255) NOT NULL,
+    document_type       VARCHAR(255) NOT NULL,
+    version             INTEGER NOT NULL,
+    description         TEXT,
+    is_latest_version   BOOLEAN NOT NULL,
+    previous_version_id BIGINT REFERENCES documents (id),
+    created_at          TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE comments (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    internship_id     BIGINT NOT NULL REFERENCES internships (id),
+    user_id           BIGINT NOT NULL REFERENCES users (id),
+    parent_comment_id BIGINT REFERENCES comments (id),
+    content           VARCHAR(2000) NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    is_edited         BOOLEAN NOT NULL
+);
+
+CREATE TABLE notifications (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     BIGINT NOT NULL REFERENCES users (id),
+    type        VARCHAR(255) NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    message     TEXT NOT NULL,
+    entity_type VARCHAR(255),
+    entity_id   BIGINT,
+    is_read     BOOLEAN NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE notification_preferences (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id           BIGINT NOT NULL REFERENCES users (id),
+    notification_type VARCHAR(255) NOT NULL,
+    email_enabled     BOOLEAN NOT NULL,
+    push_enabled      BOOLEAN NOT NULL,
+    in_app_enabled    BOOLEAN NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6)
+);
+
+CREATE TABLE activity_logs (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     BIGINT REFERENCES users (id),
+    user_email  VARCHAR(255),
+    action_type VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(100),
+    entity_id   BIGINT,
+    description VARCHAR(1000) NOT NULL,
+    ip_address  VARCHAR(45),
+    user_agent  VARCHAR(500),
+    old_value   TEXT,
+    new_value   TEXT,
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_user_id ON activity_logs (user_id);
+CREATE INDEX idx_action_type ON activity_logs (action_type);
+CREATE INDEX idx_created_at ON activity_logs (created_at);
+CREATE INDEX idx_entity_type_id ON activity_logs (entity_type, entity_id);
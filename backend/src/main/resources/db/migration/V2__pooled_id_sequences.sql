@@ -0,0 +1,32 @@
+-- Move the high-volume tables from per-row identity/serial ids to the pooled
+-- sequences (allocationSize 50, pooled-lo) their entities use, on databases
+-- created by V1 and on baselined ones alike.
+--
+-- Tables created by Hibernate 6 have identity columns, older ones a serial
+-- default with an owned *_id_seq; both are removed. Each sequence is moved
+-- past the existing rows so the next block cannot collide with them.
+
+DO $$
+DECLARE
+    t         TEXT;
+    max_id    BIGINT;
+    next_from BIGINT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['internships', 'documents', 'comments', 'notifications',
+                             'notification_preferences', 'activity_logs']
+    LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH 1 INCREMENT BY 50', t || '_seq');
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', t || '_seq');
+
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', t);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', t);
+        EXECUTE format('DROP SEQUENCE IF EXISTS %I', t || '_id_seq');
+
+        EXECUTE format('SELECT MAX(id) FROM %I', t) INTO max_id;
+        EXECUTE format('SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM %I', t || '_seq')
+            INTO next_from;
+        IF max_id IS NOT NULL AND max_id >= next_from THEN
+            PERFORM setval(t || '_seq', max_id + 1, false);
+        END IF;
+    END LOOP;
+END $$;
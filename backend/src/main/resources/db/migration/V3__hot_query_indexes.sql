@@ -0,0 +1,86 @@
+-- Indexes for the repository queries on the request path. Each index lists the
+-- queries it serves; foreign keys already covered by the leading column of a
+-- unique constraint or of an earlier index are not indexed again.
+-- IF NOT EXISTS because baselined databases may already carry some of them.
+
+-- internships -----------------------------------------------------------------
+
+-- findByStudent / findByStudentId (student dashboard), getDistinctSectorsByStudent,
+-- getTotalDaysInternedByStudent
+CREATE INDEX IF NOT EXISTS idx_internships_student_id
+    ON internships (student_id, status);
+
+-- findByInstructor / findByInstructorId, findByInstructorIdAndStatus,
+-- countByInstructorIdAndStatus, countByInstructorId
+CREATE INDEX IF NOT EXISTS idx_internships_instructor_status
+    ON internships (instructor_id, status)
+    WHERE instructor_id IS NOT NULL;
+
+-- findPendingInternshipsForInstructor (status within the instructor's sectors),
+-- countByStatusAndSector
+CREATE INDEX IF NOT EXISTS idx_internships_sector_status
+    ON internships (sector_id, status);
+
+-- documents -------------------------------------------------------------------
+-- (internship_id, original_file_name, version) is covered by
+-- uk_documents_internship_file_version: version history, next version lookup,
+-- clearLatestVersion, countByInternship.
+
+-- findByInternshipOrderByCreatedAtDesc (document list of an internship)
+CREATE INDEX IF NOT EXISTS idx_documents_internship_created_at
+    ON documents (internship_id, created_at DESC);
+
+-- Blob reference checks in the compaction sweep and on blob release
+CREATE INDEX IF NOT EXISTS idx_documents_blob_id
+    ON documents (blob_id)
+    WHERE blob_id IS NOT NULL;
+
+-- comments --------------------------------------------------------------------
+
+-- findTopLevelCommentsByInternshipId, countByInternshipId, deleteByInternship
+CREATE INDEX IF NOT EXISTS idx_comments_internship_created_at
+    ON comments (internship_id, created_at DESC);
+
+-- findRepliesByParentCommentId, countRepliesByParentCommentId
+CREATE INDEX IF NOT EXISTS idx_comments_parent_created_at
+    ON comments (parent_comment_id, created_at)
+    WHERE parent_comment_id IS NOT NULL;
+
+-- findByUserId
+CREATE INDEX IF NOT EXISTS idx_comments_user_created_at
+    ON comments (user_id, created_at DESC);
+
+-- notifications ---------------------------------------------------------------
+
+-- findByUserOrderByCreatedAtDesc (paged inbox), findFirstByUserOrderByCreatedAtDesc,
+-- deleteByUser
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created_at
+    ON notifications (user_id, created_at DESC);
+
+-- findByUserAndReadFalseOrderByCreatedAtDesc, countByUserAndReadFalse (badge),
+-- markAllAsReadForUser
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread
+    ON notifications (user_id, created_at DESC)
+    WHERE is_read = false;
+
+-- notification_preferences ----------------------------------------------------
+
+-- findByUserId, findByUserIdAndNotificationType (checked on every notification)
+CREATE INDEX IF NOT EXISTS idx_notification_preferences_user_type
+    ON notification_preferences (user_id, notification_type);
+
+-- users / instructor_sectors / verification_tokens ----------------------------
+
+-- findByActivationToken (instructor account activation)
+CREATE INDEX IF NOT EXISTS idx_users_activation_token
+    ON users (activation_token)
+    WHERE activation_token IS NOT NULL;
+
+-- findByRoleAndSectorsContaining / findContactsByRoleAndSectorId (submission
+-- fan-out); the primary key only serves lookups by user_id
+CREATE INDEX IF NOT EXISTS idx_instructor_sectors_sector_id
+    ON instructor_sectors (sector_id, user_id);
+
+-- findByToken (e-mail verification and password reset links)
+CREATE INDEX IF NOT EXISTS idx_verification_tokens_token
+    ON verification_tokens (token);
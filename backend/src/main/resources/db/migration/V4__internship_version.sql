@@ -0,0 +1,3 @@
+-- Optimistic locking on internships (Internship.version). Existing rows start
+-- at 0; the claim UPDATE increments it alongside the entity transitions.
+ALTER TABLE internships ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,7 @@
+-- InternshipAssignmentService: retry pass over the unassigned submissions
+-- (findUnassignedIdsAndSectors), oldest first. The workload recount
+-- (countPerInstructorByStatus) and the cap check of assignIfUnassigned use
+-- idx_internships_instructor_status (V3).
+CREATE INDEX IF NOT EXISTS idx_internships_unassigned_pending
+    ON internships (submitted_at, id)
+    WHERE status = 'PENDING_VALIDATION' AND instructor_id IS NULL;
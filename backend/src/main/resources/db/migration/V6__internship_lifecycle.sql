@@ -0,0 +1,10 @@
+-- InternshipLifecycleService: due rows of each date-driven transition, in the
+-- order the job locks them (lockDueToStart / lockDueToComplete). Partial, so
+-- they only hold the internships still waiting for that transition.
+CREATE INDEX IF NOT EXISTS idx_internships_validated_start_date
+    ON internships (start_date, id)
+    WHERE status = 'VALIDATED';
+
+CREATE INDEX IF NOT EXISTS idx_internships_in_progress_end_date
+    ON internships (end_date, id)
+    WHERE status = 'IN_PROGRESS';
@@ -0,0 +1,20 @@
+-- Next-fire-time table of DeadlineReminderService. One row per internship and
+-- reminder kind (the unique key de-duplicates reminders); the planner inserts
+-- rows ahead of time, the dispatcher only reads the due ones.
+CREATE SEQUENCE IF NOT EXISTS internship_reminders_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS internship_reminders (
+    id            BIGINT PRIMARY KEY,
+    internship_id BIGINT NOT NULL REFERENCES internships (id) ON DELETE CASCADE,
+    kind          VARCHAR(30) NOT NULL,
+    fire_at       TIMESTAMP(6) NOT NULL,
+    state         VARCHAR(20) NOT NULL,
+    processed_at  TIMESTAMP(6),
+    created_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_internship_reminders_internship_kind UNIQUE (internship_id, kind)
+);
+
+-- lockDueReminders: pending rows by fire time
+CREATE INDEX IF NOT EXISTS idx_internship_reminders_pending_fire_at
+    ON internship_reminders (fire_at, id)
+    WHERE state = 'PENDING';
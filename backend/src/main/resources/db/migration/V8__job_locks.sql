@@ -0,0 +1,10 @@
+-- Leases of JobLockService: one row per job name, kept after release so the
+-- fencing token keeps increasing across acquisitions. Lease times use the
+-- database clock.
+CREATE TABLE IF NOT EXISTS job_locks (
+    name          VARCHAR(100) PRIMARY KEY,
+    owner         VARCHAR(200) NOT NULL,
+    fencing_token BIGINT NOT NULL,
+    locked_at     TIMESTAMP(6) NOT NULL,
+    locked_until  TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,6 @@
+-- Lease times are compared against now(); store them as timestamptz so every
+-- node reads the same instant whatever its JVM (and so session) time zone.
+-- Existing values are read in the session time zone of the migration.
+ALTER TABLE job_locks
+    ALTER COLUMN locked_at TYPE TIMESTAMPTZ(6),
+    ALTER COLUMN locked_until TYPE TIMESTAMPTZ(6);
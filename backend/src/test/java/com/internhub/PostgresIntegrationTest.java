@@ -0,0 +1,41 @@
+package com.internhub;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base class for tests that need the real database: the whole application
+ * against a PostgreSQL container, schema created by the Flyway migrations.
+ * The container is started once and shared by every test class (and their
+ * cached application context). Background jobs are off, mail is not sent and
+ * document blobs are stored below target/. Skipped when Docker is not
+ * available.
+ */
+@SpringBootTest(properties = {
+    "app.jobs.enabled=false",
+    "app.lifecycle.enabled=false",
+    "app.reminders.enabled=false",
+    "app.compaction.enabled=false",
+    "app.storage.local.root=target/test-storage/blobs"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @MockBean
+    JavaMailSender mailSender;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+}
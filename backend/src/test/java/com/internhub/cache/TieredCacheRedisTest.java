@@ -0,0 +1,168 @@
+package com.internhub.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.internhub.config.CacheConfig;
+import com.internhub.config.TieredCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Two cache managers wired the way CacheConfig wires a node, sharing one
+ * Redis: read-through across the tiers, evictions deferred to the commit and
+ * invalidations broadcast to the other node's local tier. Skipped when Docker
+ * is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TieredCacheRedisTest {
+
+    private static final String CACHE = "sectorByName";
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private TieredCacheManager nodeA;
+    private TieredCacheManager nodeB;
+    private RedisMessageListenerContainer listenerA;
+    private RedisMessageListenerContainer listenerB;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+
+        TieredCacheProperties properties = new TieredCacheProperties();
+        properties.getRedis().setEnabled(true);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("redisConnectionFactory", connectionFactory);
+
+        CacheConfig config = new CacheConfig();
+        nodeA = node(config, properties, beans);
+        nodeB = node(config, properties, beans);
+        listenerA = listener(config, nodeA, properties);
+        listenerB = listener(config, nodeB, properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listenerA.destroy();
+        listenerB.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void readsThroughLocalAndSharedTiers() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(nodeA.getCache(CACHE).get("IT", () -> "IT-" + loads.incrementAndGet())).isEqualTo("IT-1");
+        assertThat(local(nodeA).getIfPresent("IT")).isEqualTo("IT-1");
+
+        // Node B misses locally, finds the entry in Redis and keeps a local copy
+        assertThat(nodeB.getCache(CACHE).get("IT", () -> "IT-" + loads.incrementAndGet())).isEqualTo("IT-1");
+        assertThat(local(nodeB).getIfPresent("IT")).isEqualTo("IT-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictionInsideTransactionWaitsForCommit() {
+        Cache cache = nodeA.getCache(CACHE);
+        assertThat(cache).isInstanceOf(TransactionAwareCacheDecorator.class);
+        cache.put("Finance", "Finance-1");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict("Finance");
+            assertThat(local(nodeA).getIfPresent("Finance")).isEqualTo("Finance-1");
+            assertThat(nodeB.getCache(CACHE).get("Finance")).isNotNull();
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(local(nodeA).getIfPresent("Finance")).isNull();
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(local(nodeB).getIfPresent("Finance")).isNull());
+        assertThat(nodeB.getCache(CACHE).get("Finance")).isNull();
+    }
+
+    @Test
+    void evictionOnOneNodeDropsTheOtherNodesLocalCopy() {
+        nodeA.getCache(CACHE).get("Health", () -> "Health-1");
+        nodeB.getCache(CACHE).get("Health", () -> "Health-2");
+        assertThat(local(nodeB).getIfPresent("Health")).isEqualTo("Health-1");
+
+        nodeA.getCache(CACHE).evict("Health");
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(local(nodeB).getIfPresent("Health")).isNull());
+        assertThat(nodeB.getCache(CACHE).get("Health", () -> "Health-3")).isEqualTo("Health-3");
+    }
+
+    @Test
+    void registeredLocalInvalidationReceivesBroadcasts() {
+        AtomicInteger received = new AtomicInteger();
+        nodeB.registerLocalInvalidation(InternshipSearchCache.CACHE_NAME, key -> received.incrementAndGet());
+        nodeA.registerLocalInvalidation(InternshipSearchCache.CACHE_NAME, key -> received.addAndGet(100));
+
+        nodeA.broadcast(InternshipSearchCache.CACHE_NAME, null);
+
+        // Only the other node applies it; the sender ignores its own message
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(received).hasValue(1));
+    }
+
+    private static TieredCacheManager node(CacheConfig config, TieredCacheProperties properties,
+            StaticListableBeanFactory beans) {
+        TieredCacheManager cacheManager = config.cacheManager(properties, new SimpleMeterRegistry(),
+                beans.getBeanProvider(RedisConnectionFactory.class));
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    private RedisMessageListenerContainer listener(CacheConfig config, TieredCacheManager cacheManager,
+            TieredCacheProperties properties) {
+        RedisMessageListenerContainer container = config.cacheInvalidationListenerContainer(connectionFactory,
+                cacheManager, properties);
+        container.afterPropertiesSet();
+        container.start();
+        return container;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> local(TieredCacheManager cacheManager) {
+        Cache cache = cacheManager.getCache(CACHE);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+    }
+}
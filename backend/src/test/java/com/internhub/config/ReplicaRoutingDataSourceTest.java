@@ -0,0 +1,211 @@
+package com.internhub.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.internhub.cache.CacheNames;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Routing of ReplicaRoutingDataSource, wired the way ReadReplicaConfig wires
+ * it, against two PostgreSQL containers standing in for the primary and the
+ * replica (told apart by database name). Skipped when Docker is not
+ * available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingDataSourceTest {
+
+    @Container
+    static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("primary_db");
+
+    @Container
+    static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("replica_db");
+
+    private ConcurrentMapCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheNames.STICKY_PRIMARY);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        Routing routing = routing(dataSource(REPLICA), true);
+
+        assertThat(routing.read()).isEqualTo("replica_db");
+        assertThat(count("replica", "read")).isEqualTo(1);
+    }
+
+    @Test
+    void writesAndNonTransactionalWorkGoToThePrimary() {
+        Routing routing = routing(dataSource(REPLICA), true);
+
+        assertThat(routing.write()).isEqualTo("primary_db");
+        assertThat(routing.jdbcTemplate.queryForObject("SELECT current_database()", String.class))
+                .isEqualTo("primary_db");
+        assertThat(count("primary", "write")).isEqualTo(1);
+        assertThat(count("primary", "no-transaction")).isEqualTo(1);
+    }
+
+    @Test
+    void readsOfARecentWriterStayOnThePrimary() {
+        Routing routing = routing(dataSource(REPLICA), true);
+
+        signIn("writer@test.internhub");
+        routing.write();
+        assertThat(routing.read()).isEqualTo("primary_db");
+        assertThat(count("primary", "sticky")).isEqualTo(1);
+
+        // Other users are not affected
+        signIn("reader@test.internhub");
+        assertThat(routing.read()).isEqualTo("replica_db");
+
+        // Once the window (the cache entry's TTL) has passed, reads go back to the replica
+        cacheManager.getCache(CacheNames.STICKY_PRIMARY).evict("writer@test.internhub");
+        signIn("writer@test.internhub");
+        assertThat(routing.read()).isEqualTo("replica_db");
+    }
+
+    @Test
+    void rolledBackWritesAreNotSticky() {
+        Routing routing = routing(dataSource(REPLICA), true);
+
+        signIn("writer@test.internhub");
+        routing.writeTemplate.executeWithoutResult(status -> {
+            routing.jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+            status.setRollbackOnly();
+        });
+
+        assertThat(routing.read()).isEqualTo("replica_db");
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhileTheReplicaIsDown() {
+        Routing routing = routing(unreachableReplica(), true);
+
+        assertThat(routing.read()).isEqualTo("primary_db");
+        assertThat(count("primary", "fallback")).isEqualTo(1);
+    }
+
+    @Test
+    void readsFailWhileTheReplicaIsDownWithoutFallback() {
+        Routing routing = routing(unreachableReplica(), false);
+
+        assertThatThrownBy(routing::read).isInstanceOf(DataAccessException.class);
+        assertThat(count("primary", "fallback")).isZero();
+    }
+
+    @Test
+    void perCallCredentialsAreNotSupported() {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(dataSource(PRIMARY), dataSource(REPLICA),
+                true, provider(CacheManager.class, cacheManager), provider(MeterRegistry.class, meterRegistry));
+
+        assertThatThrownBy(() -> dataSource.getConnection("someone", "secret"))
+                .isInstanceOf(SQLFeatureNotSupportedException.class);
+    }
+
+    private Routing routing(DataSource replica, boolean fallbackToPrimary) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(dataSource(PRIMARY),
+                replica, fallbackToPrimary, provider(CacheManager.class, cacheManager),
+                provider(MeterRegistry.class, meterRegistry)));
+        return new Routing(dataSource);
+    }
+
+    private double count(String target, String reason) {
+        Counter counter = meterRegistry.find(ReplicaRoutingDataSource.ROUTING_METER)
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+    }
+
+    private static DataSource dataSource(PostgreSQLContainer<?> container) {
+        return new DriverManagerDataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+
+    /**
+     * The replica container with the wrong password: every connection
+     * attempt is refused.
+     */
+    private static DataSource unreachableReplica() {
+        return new DriverManagerDataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), "wrong-password");
+    }
+
+    private static <T> ObjectProvider<T> provider(Class<T> type, T bean) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean(type.getSimpleName(), bean);
+        return beans.getBeanProvider(type);
+    }
+
+    /**
+     * Read-only and read-write transactions over the routing DataSource, each
+     * reporting the database that served it.
+     */
+    private static class Routing {
+
+        final JdbcTemplate jdbcTemplate;
+        final TransactionTemplate writeTemplate;
+        final TransactionTemplate readTemplate;
+
+        Routing(DataSource dataSource) {
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            jdbcTemplate = new JdbcTemplate(dataSource);
+            writeTemplate = new TransactionTemplate(transactionManager);
+            readTemplate = new TransactionTemplate(transactionManager);
+            readTemplate.setReadOnly(true);
+        }
+
+        String write() {
+            return writeTemplate.execute(status -> currentDatabase());
+        }
+
+        String read() {
+            return readTemplate.execute(status -> currentDatabase());
+        }
+
+        private String currentDatabase() {
+            return jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.internhub.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.internhub.PostgresIntegrationTest;
+import com.internhub.cache.SectorRoutingTable;
+import com.internhub.config.JwtTokenProvider;
+import com.internhub.model.Internship;
+import com.internhub.model.InternshipStatus;
+import com.internhub.model.Role;
+import com.internhub.model.Sector;
+import com.internhub.model.User;
+import com.internhub.repository.InternshipRepository;
+import com.internhub.repository.SectorRepository;
+import com.internhub.repository.UserRepository;
+
+/**
+ * Concurrent claims of one internship: the conditional UPDATE lets exactly
+ * one instructor win, every other claim gets a 409.
+ */
+class InstructorControllerClaimTest extends PostgresIntegrationTest {
+
+    private static final int CLAIMERS = 8;
+
+    @Autowired
+    private InstructorController instructorController;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private SectorRoutingTable sectorRoutingTable;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SectorRepository sectorRepository;
+
+    @Autowired
+    private InternshipRepository internshipRepository;
+
+    @Test
+    void exactlyOneConcurrentClaimWins() throws Exception {
+        String run = Long.toString(System.nanoTime());
+        Sector sector = sectorRepository.save(new Sector("Claim race " + run, "Concurrent claim test"));
+        User student = userRepository.save(user("student-" + run, Role.STUDENT, Set.of()));
+        List<User> instructors = new ArrayList<>();
+        for (int i = 0; i < CLAIMERS; i++) {
+            instructors.add(userRepository.save(user("instructor-" + i + "-" + run, Role.INSTRUCTOR, Set.of(sector))));
+        }
+        sectorRoutingTable.reload();
+
+        Internship internship = new Internship("Backend developer", "Acme", LocalDate.now().plusDays(30),
+                LocalDate.now().plusDays(120), student, sector);
+        internship.setStatus(InternshipStatus.PENDING_VALIDATION);
+        internship = internshipRepository.save(internship);
+        Long internshipId = internship.getId();
+        long versionBefore = internship.getVersion();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseEntity<?>>> claims = new ArrayList<>();
+        try {
+            for (User instructor : instructors) {
+                String token = "Bearer " + jwtTokenProvider.generateToken(instructor.getEmail(), instructor.getId(),
+                        Role.INSTRUCTOR.name());
+                claims.add(executor.<ResponseEntity<?>>submit(() -> {
+                    start.await();
+                    return instructorController.claimInternship(internshipId, token);
+                }));
+            }
+            start.countDown();
+
+            int won = 0;
+            int conflicts = 0;
+            for (Future<ResponseEntity<?>> claim : claims) {
+                HttpStatus status = HttpStatus.valueOf(claim.get(30, TimeUnit.SECONDS).getStatusCode().value());
+                if (status == HttpStatus.OK) {
+                    won++;
+                } else if (status == HttpStatus.CONFLICT) {
+                    conflicts++;
+                }
+            }
+            assertThat(won).isEqualTo(1);
+            assertThat(conflicts).isEqualTo(CLAIMERS - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Internship claimed = internshipRepository.findById(internshipId).orElseThrow();
+        assertThat(claimed.getVersion()).isEqualTo(versionBefore + 1);
+        assertThat(claimed.getInstructor()).isNotNull();
+        assertThat(instructors).extracting(User::getId).contains(claimed.getInstructor().getId());
+    }
+
+    private static User user(String name, Role role, Set<Sector> sectors) {
+        User user = new User(null, name + "@test.internhub", "{noop}secret", name, "Test", true, false, null,
+                LocalDateTime.now(), null);
+        user.setRole(role);
+        user.setSectors(new HashSet<>(sectors));
+        return user;
+    }
+}
@@ -0,0 +1,126 @@
+package com.internhub.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.internhub.PostgresIntegrationTest;
+import com.internhub.model.ActivityLog;
+import com.internhub.model.Notification;
+import com.internhub.model.NotificationPreference;
+import com.internhub.model.Role;
+import com.internhub.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Inserts of the high-volume entities go out as JDBC batches: with pooled
+ * sequence ids Hibernate does not need a round trip per row, so saving
+ * {@value #ROWS} rows in one transaction takes a few batches of
+ * hibernate.jdbc.batch_size rows and a couple of sequence calls.
+ */
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.session.events.auto=com.internhub.repository.BatchedInsertTest$BatchCounter"
+})
+class BatchedInsertTest extends PostgresIntegrationTest {
+
+    private static final int ROWS = 100;
+    private static final int BATCH_SIZE = 20;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationPreferenceRepository notificationPreferenceRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        String name = "batch-" + System.nanoTime();
+        user = new User(null, name + "@test.internhub", "{noop}secret", name, "Test", true, false, null,
+                LocalDateTime.now(), null);
+        user.setRole(Role.STUDENT);
+        user.setSectors(new HashSet<>());
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void notificationsAreBatched() {
+        assertBatched(Notification.class, notificationRepository,
+                i -> new Notification(user, "USER_ACTION", "Title " + i, "Message " + i));
+    }
+
+    @Test
+    void notificationPreferencesAreBatched() {
+        NotificationPreference.NotificationType[] types = NotificationPreference.NotificationType.values();
+        assertBatched(NotificationPreference.class, notificationPreferenceRepository, i -> {
+            NotificationPreference preference = new NotificationPreference();
+            preference.setUser(user);
+            preference.setNotificationType(types[i % types.length]);
+            return preference;
+        });
+    }
+
+    @Test
+    void activityLogsAreBatched() {
+        assertBatched(ActivityLog.class, activityLogRepository,
+                i -> new ActivityLog(user, "TEST_ACTION", "USER", user.getId(), "Entry " + i));
+    }
+
+    private <T> void assertBatched(Class<T> entityClass, JpaRepository<T, Long> repository, Function<Integer, T> factory) {
+        List<T> entities = IntStream.range(0, ROWS).mapToObj(factory::apply).toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        BatchCounter.BATCHES.set(0);
+
+        transactionTemplate.executeWithoutResult(status -> repository.saveAll(entities));
+
+        assertThat(statistics.getEntityStatistics(entityClass.getName()).getInsertCount()).isEqualTo(ROWS);
+        assertThat(BatchCounter.BATCHES.get()).isEqualTo(ROWS / BATCH_SIZE);
+        // One prepared INSERT per batch plus the sequence calls, instead of one per row
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(ROWS / BATCH_SIZE + ROWS / 50 + 1);
+    }
+
+    /**
+     * Counts executed JDBC batches across sessions; Hibernate creates one
+     * listener per session.
+     */
+    public static class BatchCounter extends BaseSessionEventListener {
+
+        static final AtomicInteger BATCHES = new AtomicInteger();
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            BATCHES.incrementAndGet();
+        }
+    }
+}
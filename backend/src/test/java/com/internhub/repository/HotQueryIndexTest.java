@@ -0,0 +1,81 @@
+package com.internhub.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.internhub.PostgresIntegrationTest;
+
+/**
+ * The request-path and job queries have an index on the schema the
+ * migrations build. Sequential scans are disabled for the plan, so the
+ * planner only falls back to one when no index applies; a plan with a
+ * "Seq Scan" node means a migration dropped or never created the index the
+ * query relies on.
+ */
+class HotQueryIndexTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    static Stream<String> hotQueries() {
+        return Stream.of(
+                // Student dashboard, instructor lists, pending validations of a sector
+                "SELECT * FROM internships WHERE student_id = 1",
+                "SELECT * FROM internships WHERE instructor_id = 1 AND status = 'VALIDATED'",
+                "SELECT * FROM internships WHERE sector_id = 1 AND status = 'PENDING_VALIDATION'",
+                "SELECT * FROM internships WHERE status = 'PENDING_VALIDATION' ORDER BY created_at, id LIMIT 20",
+                // Assignment retry pass and lifecycle transitions
+                "SELECT id FROM internships WHERE status = 'PENDING_VALIDATION' AND instructor_id IS NULL "
+                        + "ORDER BY submitted_at, id LIMIT 200",
+                "SELECT id FROM internships WHERE status = 'VALIDATED' AND start_date <= CURRENT_DATE "
+                        + "ORDER BY start_date, id LIMIT 100",
+                "SELECT id FROM internships WHERE status = 'IN_PROGRESS' AND end_date < CURRENT_DATE "
+                        + "ORDER BY end_date, id LIMIT 100",
+                // Documents of an internship, latest report, version lookup, blob references
+                "SELECT * FROM documents WHERE internship_id = 1 ORDER BY created_at DESC",
+                "SELECT * FROM documents WHERE internship_id = 1 AND document_type = 'REPORT' "
+                        + "AND is_latest_version ORDER BY created_at DESC LIMIT 1",
+                "SELECT MAX(version) FROM documents WHERE internship_id = 1 AND original_file_name = 'report.pdf'",
+                "SELECT id FROM documents WHERE blob_id = 1",
+                "SELECT id FROM documents WHERE content_hash = 'abc'",
+                "SELECT id FROM documents WHERE scan_status = 'PENDING' AND created_at < now() ORDER BY created_at",
+                // Comment threads
+                "SELECT * FROM comments WHERE internship_id = 1 AND parent_comment_id IS NULL "
+                        + "ORDER BY created_at DESC",
+                "SELECT * FROM comments WHERE parent_comment_id = 1 ORDER BY created_at",
+                // Notification inbox, unread badge, preference check
+                "SELECT * FROM notifications WHERE user_id = 1 ORDER BY created_at DESC LIMIT 20",
+                "SELECT COUNT(*) FROM notifications WHERE user_id = 1 AND is_read = false",
+                "SELECT * FROM notification_preferences WHERE user_id = 1 AND notification_type = 'NEW_COMMENT'",
+                // Token lookups and submission fan-out
+                "SELECT * FROM users WHERE activation_token = 'token'",
+                "SELECT * FROM verification_tokens WHERE token = 'token'",
+                "SELECT user_id FROM instructor_sectors WHERE sector_id = 1",
+                // Reminder dispatch and compaction
+                "SELECT id FROM internship_reminders WHERE state = 'PENDING' AND fire_at <= now() "
+                        + "ORDER BY fire_at, id LIMIT 100",
+                "SELECT id FROM document_blobs WHERE original_delete_after <= now() AND id > 0 ORDER BY id");
+    }
+
+    @ParameterizedTest
+    @MethodSource("hotQueries")
+    void queryUsesAnIndex(String sql) {
+        List<String> plan = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        });
+
+        assertThat(plan).as("plan of %s", sql).noneMatch(line -> line.contains("Seq Scan"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.internhub.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.internhub.PostgresIntegrationTest;
+import com.internhub.exception.BusinessException;
+import com.internhub.repository.JobLockRepository;
+import com.internhub.service.JobLockService.JobLease;
+
+/**
+ * Two nodes competing for the same job lease, each with its own node id, in
+ * one JVM against the real job_locks table.
+ */
+class JobLockServiceTest extends PostgresIntegrationTest {
+
+    private static final Duration SHORT_LEASE = Duration.ofMillis(500);
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JobLockService nodeA;
+    private JobLockService nodeB;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new JobLockService(jobLockRepository, transactionManager, "node-a");
+        nodeB = new JobLockService(jobLockRepository, transactionManager, "node-b");
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void exactlyOneNodeAcquires() throws Exception {
+        String job = jobName();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Optional<JobLease>>> attempts = new ArrayList<>();
+            for (JobLockService node : List.of(nodeA, nodeB)) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    return node.tryAcquire(job, Duration.ofMinutes(1));
+                }));
+            }
+            start.countDown();
+
+            int acquired = 0;
+            for (Future<Optional<JobLease>> attempt : attempts) {
+                if (attempt.get(30, TimeUnit.SECONDS).isPresent()) {
+                    acquired++;
+                }
+            }
+            assertThat(acquired).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void takeoverAfterExpiryGetsHigherToken() throws Exception {
+        String job = jobName();
+        JobLease first = nodeA.tryAcquire(job, SHORT_LEASE).orElseThrow();
+        assertThat(nodeB.tryAcquire(job, SHORT_LEASE)).isEmpty();
+
+        Thread.sleep(SHORT_LEASE.toMillis() * 2);
+
+        JobLease second = nodeB.tryAcquire(job, Duration.ofMinutes(1)).orElseThrow();
+        assertThat(second.owner()).isEqualTo("node-b");
+        assertThat(second.fencingToken()).isGreaterThan(first.fencingToken());
+        assertThat(nodeA.renew(first, Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    void fenceFailsForStaleHolder() throws Exception {
+        String job = jobName();
+        JobLease stale = nodeA.tryAcquire(job, SHORT_LEASE).orElseThrow();
+        transactionTemplate.executeWithoutResult(status -> nodeA.checkFence(stale));
+
+        Thread.sleep(SHORT_LEASE.toMillis() * 2);
+        JobLease current = nodeB.tryAcquire(job, Duration.ofMinutes(1)).orElseThrow();
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> nodeA.checkFence(stale)))
+                .isInstanceOf(BusinessException.class);
+        transactionTemplate.executeWithoutResult(status -> nodeB.checkFence(current));
+    }
+
+    private static String jobName() {
+        return "test-job-" + System.nanoTime();
+    }
+}
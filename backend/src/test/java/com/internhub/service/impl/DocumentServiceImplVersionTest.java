@@ -0,0 +1,110 @@
+package com.internhub.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.internhub.PostgresIntegrationTest;
+import com.internhub.dto.DocumentResponse;
+import com.internhub.model.Document.DocumentType;
+import com.internhub.model.Internship;
+import com.internhub.model.Role;
+import com.internhub.model.Sector;
+import com.internhub.model.User;
+import com.internhub.repository.InternshipRepository;
+import com.internhub.repository.SectorRepository;
+import com.internhub.repository.UserRepository;
+import com.internhub.service.DocumentService;
+
+/**
+ * Concurrent uploads of the same file to one internship: the internship row
+ * lock serializes version allocation, so every upload gets its own version,
+ * the versions have no gaps and exactly one row stays the latest.
+ */
+class DocumentServiceImplVersionTest extends PostgresIntegrationTest {
+
+    private static final int UPLOADERS = 10;
+    private static final String FILE_NAME = "weekly-report.txt";
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SectorRepository sectorRepository;
+
+    @Autowired
+    private InternshipRepository internshipRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentUploadsGetDistinctConsecutiveVersions() throws Exception {
+        String run = Long.toString(System.nanoTime());
+        Sector sector = sectorRepository.save(new Sector("Upload race " + run, "Concurrent upload test"));
+        User student = userRepository.save(student("student-" + run));
+        Internship internship = internshipRepository.save(new Internship("Data engineer", "Acme",
+                LocalDate.now().plusDays(30), LocalDate.now().plusDays(120), student, sector));
+        Long internshipId = internship.getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(UPLOADERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<DocumentResponse>> uploads = new ArrayList<>();
+        try {
+            for (int i = 0; i < UPLOADERS; i++) {
+                // Different content per upload, so each one publishes its own blob
+                byte[] content = ("Week " + i + " of run " + run).getBytes(StandardCharsets.UTF_8);
+                uploads.add(executor.submit(() -> {
+                    start.await();
+                    return documentService.uploadDocumentStream(internshipId, FILE_NAME, "text/plain",
+                            content.length, new ByteArrayInputStream(content), DocumentType.REPORT,
+                            null, student.getId());
+                }));
+            }
+            start.countDown();
+
+            for (Future<DocumentResponse> upload : uploads) {
+                upload.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Integer> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM documents WHERE internship_id = ? AND original_file_name = ? ORDER BY version",
+                Integer.class, internshipId, FILE_NAME);
+        assertThat(versions).containsExactlyElementsOf(IntStream.rangeClosed(1, UPLOADERS).boxed().toList());
+
+        List<Integer> latest = jdbcTemplate.queryForList(
+                "SELECT version FROM documents WHERE internship_id = ? AND original_file_name = ? "
+                + "AND is_latest_version", Integer.class, internshipId, FILE_NAME);
+        assertThat(latest).containsExactly(UPLOADERS);
+    }
+
+    private static User student(String name) {
+        User user = new User(null, name + "@test.internhub", "{noop}secret", name, "Test", true, false, null,
+                LocalDateTime.now(), null);
+        user.setRole(Role.STUDENT);
+        user.setSectors(new HashSet<>());
+        return user;
+    }
+}
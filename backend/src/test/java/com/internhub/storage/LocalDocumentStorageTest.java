@@ -0,0 +1,91 @@
+package com.internhub.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Hash-sharded layout of the local backend, and its fallback to blobs stored
+ * flat under the root before sharding.
+ */
+class LocalDocumentStorageTest {
+
+    private static final String KEY = "abcdef0123456789";
+    private static final byte[] CONTENT = "internship report".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    private LocalDocumentStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalDocumentStorage(root.toString());
+    }
+
+    @Test
+    void putStoresUnderTwoLevelShard() throws IOException {
+        storage.put(KEY, new ByteArrayInputStream(CONTENT), CONTENT.length);
+
+        Path expected = root.resolve("ab").resolve("cd").resolve(KEY);
+        assertThat(expected).hasBinaryContent(CONTENT);
+        assertThat(storage.localPath(KEY)).contains(expected);
+        assertThat(storage.location(KEY)).isEqualTo(expected.toString());
+        assertThat(read(storage.get(KEY, 9, 6))).isEqualTo("report".getBytes(StandardCharsets.UTF_8));
+        // No temp files left next to the blob
+        try (Stream<Path> files = Files.list(expected.getParent())) {
+            assertThat(files).containsExactly(expected);
+        }
+    }
+
+    @Test
+    void findsAndDeletesFlatLegacyBlobs() throws IOException {
+        Path legacy = Files.write(root.resolve(KEY), CONTENT);
+
+        assertThat(storage.exists(KEY)).isTrue();
+        assertThat(storage.localPath(KEY)).contains(legacy);
+        assertThat(read(storage.get(KEY))).isEqualTo(CONTENT);
+
+        storage.delete(KEY);
+        assertThat(storage.exists(KEY)).isFalse();
+    }
+
+    @Test
+    void stagedBlobIsMovedIntoItsShard() throws IOException {
+        StagedBlob staged = storage.stage(new ByteArrayInputStream(CONTENT));
+        assertThat(staged.size()).isEqualTo(CONTENT.length);
+        assertThat(Path.of(staged.reference())).startsWith(root.resolve(".staging"));
+
+        storage.commit(staged, KEY);
+
+        assertThat(Path.of(staged.reference())).doesNotExist();
+        assertThat(root.resolve("ab").resolve("cd").resolve(KEY)).hasBinaryContent(CONTENT);
+
+        StagedBlob dropped = storage.stage(new ByteArrayInputStream(CONTENT));
+        storage.discard(dropped);
+        assertThat(Path.of(dropped.reference())).doesNotExist();
+    }
+
+    @Test
+    void shortKeysAreNotSharded() throws IOException {
+        storage.put("abc", new ByteArrayInputStream(CONTENT), CONTENT.length);
+
+        assertThat(root.resolve("abc")).hasBinaryContent(CONTENT);
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.internhub.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.internhub.config.DocumentStorageConfig;
+import com.internhub.config.DocumentStorageProperties;
+
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+
+/**
+ * S3 backend against a MinIO container, with the smallest part size S3
+ * allows (5 MB) so multipart uploads stay small. Skipped when Docker is not
+ * available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3DocumentStorageTest {
+
+    private static final int PART_SIZE = (int) DataSize.ofMegabytes(5).toBytes();
+    private static final String BUCKET = "internhub-test";
+
+    @Container
+    static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    private static S3Client s3;
+
+    private S3DocumentStorage storage;
+    private String keyPrefix;
+
+    @BeforeAll
+    static void createBucket() {
+        DocumentStorageProperties properties = new DocumentStorageProperties();
+        properties.setType("s3");
+        properties.getS3().setEndpoint(MINIO.getS3URL());
+        properties.getS3().setAccessKey(MINIO.getUserName());
+        properties.getS3().setSecretKey(MINIO.getPassword());
+        properties.getS3().setPathStyleAccess(true);
+        s3 = new DocumentStorageConfig().documentStorageS3Client(properties);
+        s3.createBucket(builder -> builder.bucket(BUCKET));
+    }
+
+    @BeforeEach
+    void setUp() {
+        // A prefix per test, so listings only see this test's objects
+        keyPrefix = "blobs-" + System.nanoTime() + "/";
+        storage = new S3DocumentStorage(s3, BUCKET, keyPrefix, PART_SIZE, PART_SIZE);
+    }
+
+    @Test
+    void singlePartPutAndReads() throws IOException {
+        byte[] content = content(64 * 1024);
+
+        storage.put("small", new ByteArrayInputStream(content), content.length);
+
+        assertThat(storage.exists("small")).isTrue();
+        assertThat(read(storage.get("small"))).isEqualTo(content);
+        assertThat(read(storage.get("small", 100, 50))).isEqualTo(slice(content, 100, 50));
+        assertThat(storage.location("small")).isEqualTo("s3://" + BUCKET + "/" + keyPrefix + "small");
+    }
+
+    @Test
+    void multipartPut() throws IOException {
+        byte[] content = content(2 * PART_SIZE + 1234);
+
+        storage.put("large", new ByteArrayInputStream(content), content.length);
+
+        assertThat(read(storage.get("large"))).isEqualTo(content);
+        assertThat(read(storage.get("large", PART_SIZE - 10, 20))).isEqualTo(slice(content, PART_SIZE - 10, 20));
+        assertThat(pendingUploads()).isZero();
+    }
+
+    @Test
+    void failedMultipartPutIsAborted() {
+        byte[] content = content(2 * PART_SIZE);
+        InputStream failing = new FailingInputStream(content, PART_SIZE + 100);
+
+        assertThatThrownBy(() -> storage.put("broken", failing, content.length)).isInstanceOf(IOException.class);
+
+        assertThat(pendingUploads()).isZero();
+        assertThat(objectCount()).isZero();
+    }
+
+    @Test
+    void stageCommitAndDiscard() throws IOException {
+        byte[] small = content(1000);
+        byte[] large = content(PART_SIZE + 1000);
+
+        StagedBlob stagedSmall = storage.stage(new ByteArrayInputStream(small));
+        StagedBlob stagedLarge = storage.stage(new ByteArrayInputStream(large));
+        assertThat(stagedSmall.size()).isEqualTo(small.length);
+        assertThat(stagedLarge.size()).isEqualTo(large.length);
+
+        storage.commit(stagedSmall, "staged-small");
+        storage.commit(stagedLarge, "staged-large");
+        assertThat(read(storage.get("staged-small"))).isEqualTo(small);
+        assertThat(read(storage.get("staged-large"))).isEqualTo(large);
+
+        StagedBlob dropped = storage.stage(new ByteArrayInputStream(small));
+        storage.discard(dropped);
+
+        // Only the two published blobs are left; the staging objects are gone
+        assertThat(objectCount()).isEqualTo(2);
+        assertThat(pendingUploads()).isZero();
+    }
+
+    @Test
+    void deleteIgnoresMissingKeys() throws IOException {
+        storage.put("gone", new ByteArrayInputStream(new byte[] {1}), 1);
+
+        storage.delete("gone");
+        storage.delete("gone");
+
+        assertThat(storage.exists("gone")).isFalse();
+        assertThatThrownBy(() -> storage.get("gone")).isInstanceOf(IOException.class);
+    }
+
+    private int objectCount() {
+        return s3.listObjectsV2(ListObjectsV2Request.builder().bucket(BUCKET).prefix(keyPrefix).build())
+                .contents().size();
+    }
+
+    private int pendingUploads() {
+        return s3.listMultipartUploads(ListMultipartUploadsRequest.builder().bucket(BUCKET).prefix(keyPrefix).build())
+                .uploads().size();
+    }
+
+    private static byte[] content(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+
+    private static byte[] slice(byte[] content, int offset, int length) {
+        byte[] slice = new byte[length];
+        System.arraycopy(content, offset, slice, 0, length);
+        return slice;
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Serves the content, then fails like a dropped client connection.
+     */
+    private static class FailingInputStream extends InputStream {
+
+        private final ByteArrayInputStream content;
+        private int remaining;
+
+        FailingInputStream(byte[] content, int failAfter) {
+            this.content = new ByteArrayInputStream(content);
+            this.remaining = failAfter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                throw new IOException("Connection reset");
+            }
+            int n = content.read(b, off, Math.min(len, remaining));
+            remaining -= n;
+            return n;
+        }
+    }
+}